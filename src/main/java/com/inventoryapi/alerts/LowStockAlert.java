@@ -0,0 +1,63 @@
+package com.inventoryapi.alerts;
+
+import java.time.LocalDateTime;
+
+/**
+ * Alerte émise quand le stock disponible d'un produit dans un magasin
+ * passe sous son seuil de réapprovisionnement
+ */
+public class LowStockAlert {
+
+    private final Long productId;
+    private final String sku;
+    private final Integer storeIdx;
+    private final String storeId;
+    private final int availableQuantity;
+    private final int reorderThreshold;
+    private final LocalDateTime detectedAt;
+
+    public LowStockAlert(Long productId, String sku, Integer storeIdx, String storeId,
+                         int availableQuantity, int reorderThreshold) {
+        this.productId = productId;
+        this.sku = sku;
+        this.storeIdx = storeIdx;
+        this.storeId = storeId;
+        this.availableQuantity = availableQuantity;
+        this.reorderThreshold = reorderThreshold;
+        this.detectedAt = LocalDateTime.now();
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public String getSku() {
+        return sku;
+    }
+
+    public Integer getStoreIdx() {
+        return storeIdx;
+    }
+
+    public String getStoreId() {
+        return storeId;
+    }
+
+    public int getAvailableQuantity() {
+        return availableQuantity;
+    }
+
+    public int getReorderThreshold() {
+        return reorderThreshold;
+    }
+
+    public LocalDateTime getDetectedAt() {
+        return detectedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "LowStockAlert [sku=" + sku + ", storeId=" + storeId + ", available=" + availableQuantity
+                + ", threshold=" + reorderThreshold + "]";
+    }
+}
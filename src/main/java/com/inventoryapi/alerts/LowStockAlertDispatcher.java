@@ -0,0 +1,97 @@
+package com.inventoryapi.alerts;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Collecte les alertes après validation de la transaction qui les a produites,
+ * puis les livre par lots aux {@link LowStockAlertSink}.
+ * Dans un même lot, seule la dernière alerte de chaque (produit, magasin) est conservée.
+ * La livraison a toujours lieu sur le planificateur, jamais sur le thread de la requête.
+ */
+@Component
+public class LowStockAlertDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(LowStockAlertDispatcher.class);
+
+    private final Queue<LowStockAlert> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    private final ObjectProvider<LowStockAlertSink> sinks;
+    private final TaskScheduler taskScheduler;
+    private final int batchSize;
+
+    @Autowired
+    public LowStockAlertDispatcher(ObjectProvider<LowStockAlertSink> sinks, TaskScheduler taskScheduler,
+                                   @Value("${inventory.alerts.batch-size:100}") int batchSize) {
+        this.sinks = sinks;
+        this.taskScheduler = taskScheduler;
+        this.batchSize = batchSize;
+    }
+
+    @TransactionalEventListener
+    public void onLowStock(LowStockAlert alert) {
+        pending.add(alert);
+        // Lot plein : livraison anticipée confiée au planificateur, une seule demande en attente à la fois
+        if (pendingCount.incrementAndGet() >= batchSize && flushRequested.compareAndSet(false, true)) {
+            taskScheduler.schedule(() -> {
+                flushRequested.set(false);
+                flush();
+            }, Instant.now());
+        }
+    }
+
+    /**
+     * Synchronisé : la livraison périodique et une livraison anticipée ne se chevauchent pas
+     */
+    @Scheduled(fixedDelayString = "${inventory.alerts.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        Map<String, LowStockAlert> batch = new LinkedHashMap<>();
+        LowStockAlert alert;
+        while ((alert = pending.poll()) != null) {
+            pendingCount.decrementAndGet();
+            batch.put(alert.getProductId() + ":" + alert.getStoreIdx(), alert);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<LowStockAlert> alerts = new ArrayList<>(batch.values());
+        List<LowStockAlertSink> targets = sinks.orderedStream().toList();
+        if (targets.isEmpty()) {
+            // Aucune destination configurée : les alertes sont seulement journalisées
+            alerts.forEach(a -> logger.warn("Stock bas : {}", a));
+            return;
+        }
+
+        for (LowStockAlertSink sink : targets) {
+            try {
+                sink.deliver(alerts);
+            } catch (RuntimeException e) {
+                logger.error("Échec de livraison de {} alerte(s) de stock bas", alerts.size(), e);
+            }
+        }
+    }
+
+    public int getPendingCount() {
+        return pendingCount.get();
+    }
+}
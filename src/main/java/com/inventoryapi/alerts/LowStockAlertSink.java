@@ -0,0 +1,15 @@
+package com.inventoryapi.alerts;
+
+import java.util.List;
+
+/**
+ * Destination des alertes de stock bas (messagerie, e-mail, ERP...).
+ * Toute implémentation déclarée comme bean Spring reçoit les lots d'alertes.
+ */
+public interface LowStockAlertSink {
+
+    /**
+     * Livre un lot d'alertes dédoublonnées
+     */
+    void deliver(List<LowStockAlert> alerts);
+}
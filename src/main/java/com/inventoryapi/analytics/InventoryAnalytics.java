@@ -0,0 +1,235 @@
+package com.inventoryapi.analytics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.inventoryapi.repositories.ReservationRepository;
+import com.inventoryapi.repositories.ReservationRepository.ReservedTotals;
+import com.inventoryapi.repositories.StockRepository;
+import com.inventoryapi.repositories.StockRepository.StockTotals;
+import com.inventoryapi.sharding.ConsistentHashShardRing;
+import com.inventoryapi.sharding.ShardContext;
+
+/**
+ * Agrégats d'inventaire par magasin et par produit, tenus en mémoire.
+ * Chaque mutation de stock ou de réservation y applique sa variation après commit ;
+ * une lecture coûte O(magasins) ou O(produits), sans parcourir les lignes de stock.
+ *
+ * Une réconciliation périodique recalcule les agrégats depuis la base (sur chaque shard)
+ * pour corriger toute dérive : écritures faites par d'autres instances, arrondis,
+ * ou changement de prix (qui invalide la valeur de stock de tous les magasins).
+ *
+ * Les variations reçues pendant une réconciliation sont numérotées et mises de côté. Chaque shard
+ * est lu dans une transaction REPEATABLE READ (instantané cohérent) ; avant de remplacer les agrégats,
+ * les variations reçues après le début de la lecture de leur shard y sont rejouées, les précédentes
+ * étant déjà comptées dans l'instantané.
+ */
+@Component
+public class InventoryAnalytics {
+
+    private static final Logger logger = LoggerFactory.getLogger(InventoryAnalytics.class);
+
+    private final StockRepository stockRepository;
+    private final ReservationRepository reservationRepository;
+    private final ObjectProvider<ConsistentHashShardRing> shardRing;
+    private final TransactionTemplate snapshotTransaction;
+    private final long reconcileIntervalNanos;
+
+    // Verrou de lecture pour appliquer une variation, d'écriture pour remplacer les agrégats
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private final AtomicLong deltaSequence = new AtomicLong();
+    // Variations reçues pendant la réconciliation en cours, null hors réconciliation
+    private volatile Queue<SequencedDelta> pendingDeltas;
+
+    private volatile Map<Integer, InventoryRollup> byStore = new ConcurrentHashMap<>();
+    private volatile Map<Long, InventoryRollup> byProduct = new ConcurrentHashMap<>();
+
+    private volatile boolean stale = true;
+    private volatile long lastReconciledAt;
+
+    @Autowired
+    public InventoryAnalytics(StockRepository stockRepository, ReservationRepository reservationRepository,
+                              ObjectProvider<ConsistentHashShardRing> shardRing,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${inventory.analytics.reconcile-interval-ms:300000}") long reconcileIntervalMs) {
+        this.stockRepository = stockRepository;
+        this.reservationRepository = reservationRepository;
+        this.shardRing = shardRing;
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.snapshotTransaction.setReadOnly(true);
+        this.reconcileIntervalNanos = TimeUnit.MILLISECONDS.toNanos(reconcileIntervalMs);
+    }
+
+    @TransactionalEventListener
+    public void onInventoryDelta(InventoryDelta delta) {
+        swapLock.readLock().lock();
+        try {
+            apply(byStore, byProduct, delta);
+            Queue<SequencedDelta> pending = pendingDeltas;
+            if (pending != null) {
+                pending.add(new SequencedDelta(deltaSequence.incrementAndGet(), delta));
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Demande un recalcul complet au prochain passage (ex. changement de prix)
+     */
+    public void markStale() {
+        stale = true;
+    }
+
+    public List<InventoryRollup> getStoreRollups() {
+        return sorted(byStore);
+    }
+
+    public List<InventoryRollup> getProductRollups() {
+        return sorted(byProduct);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reconcile();
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.analytics.check-interval-ms:5000}")
+    public void reconcileIfNeeded() {
+        if (stale || System.nanoTime() - lastReconciledAt >= reconcileIntervalNanos) {
+            reconcile();
+        }
+    }
+
+    /**
+     * Recalcule les agrégats depuis la base puis remplace les agrégats courants,
+     * après y avoir rejoué les variations validées depuis la lecture de chaque shard.
+     * Seule une variation dont le commit précède de quelques microsecondes le début
+     * de la lecture peut encore être comptée deux fois ; le passage suivant la corrige.
+     */
+    public synchronized void reconcile() {
+        stale = false;
+        Map<Integer, InventoryRollup> stores = new ConcurrentHashMap<>();
+        Map<Long, InventoryRollup> products = new ConcurrentHashMap<>();
+
+        ConsistentHashShardRing ring = shardRing.getIfAvailable();
+        int shards = ring != null ? ring.getShardCount() : 1;
+        long[] snapshotSequences = new long[shards];
+        pendingDeltas = new ConcurrentLinkedQueue<>();
+        try {
+            for (int shard = 0; shard < shards; shard++) {
+                // Un magasin n'appartient qu'à un shard ; un produit peut être présent sur tous
+                snapshotSequences[shard] = deltaSequence.get();
+                ShardContext.runOn(shard, () -> snapshotTransaction.executeWithoutResult(
+                        status -> accumulate(stores, products)));
+            }
+        } catch (RuntimeException e) {
+            pendingDeltas = null;
+            throw e;
+        }
+
+        logDrift(stores);
+        swapLock.writeLock().lock();
+        try {
+            for (SequencedDelta pending : pendingDeltas) {
+                int shard = ring != null ? ring.shardFor(pending.delta.getStoreId()) : 0;
+                if (pending.sequence > snapshotSequences[shard]) {
+                    apply(stores, products, pending.delta);
+                }
+            }
+            pendingDeltas = null;
+            byStore = stores;
+            byProduct = products;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+        lastReconciledAt = System.nanoTime();
+    }
+
+    private static void apply(Map<Integer, InventoryRollup> stores, Map<Long, InventoryRollup> products,
+                              InventoryDelta delta) {
+        double valueDelta = delta.getUnitsDelta() * delta.getUnitPrice();
+        stores.computeIfAbsent(delta.getStoreIdx(), id -> new InventoryRollup(id, delta.getStoreId()))
+                .add(delta.getUnitsDelta(), delta.getReservedDelta(), valueDelta);
+        products.computeIfAbsent(delta.getProductId(), id -> new InventoryRollup(id, delta.getSku()))
+                .add(delta.getUnitsDelta(), delta.getReservedDelta(), valueDelta);
+    }
+
+    private void accumulate(Map<Integer, InventoryRollup> stores, Map<Long, InventoryRollup> products) {
+        for (StockTotals totals : stockRepository.sumByStore()) {
+            stores.computeIfAbsent(totals.getKey().intValue(), id -> new InventoryRollup(id, totals.getCode()))
+                    .add(totals.getUnits(), 0, totals.getStockValue());
+        }
+        for (ReservedTotals totals : reservationRepository.sumActiveByStore()) {
+            InventoryRollup rollup = stores.get(totals.getKey().intValue());
+            if (rollup != null) {
+                rollup.add(0, totals.getReserved(), 0);
+            }
+        }
+        for (StockTotals totals : stockRepository.sumByProduct()) {
+            products.computeIfAbsent(totals.getKey().longValue(), id -> new InventoryRollup(id, totals.getCode()))
+                    .add(totals.getUnits(), 0, totals.getStockValue());
+        }
+        for (ReservedTotals totals : reservationRepository.sumActiveByProduct()) {
+            InventoryRollup rollup = products.get(totals.getKey().longValue());
+            if (rollup != null) {
+                rollup.add(0, totals.getReserved(), 0);
+            }
+        }
+    }
+
+    private void logDrift(Map<Integer, InventoryRollup> reconciled) {
+        if (!logger.isDebugEnabled()) {
+            return;
+        }
+        Map<Integer, InventoryRollup> current = byStore;
+        for (Map.Entry<Integer, InventoryRollup> entry : reconciled.entrySet()) {
+            InventoryRollup before = current.get(entry.getKey());
+            long units = before != null ? before.getTotalUnits() : 0;
+            if (units != entry.getValue().getTotalUnits()) {
+                logger.debug("Dérive corrigée pour le magasin {} : {} -> {} unités",
+                        entry.getValue().getCode(), units, entry.getValue().getTotalUnits());
+            }
+        }
+    }
+
+    private static final class SequencedDelta {
+        private final long sequence;
+        private final InventoryDelta delta;
+
+        private SequencedDelta(long sequence, InventoryDelta delta) {
+            this.sequence = sequence;
+            this.delta = delta;
+        }
+    }
+
+    private static List<InventoryRollup> sorted(Map<? extends Number, InventoryRollup> rollups) {
+        List<InventoryRollup> list = new ArrayList<>(rollups.values());
+        list.sort(Comparator.comparing(InventoryRollup::getCode, Comparator.nullsLast(Comparator.naturalOrder())));
+        return list;
+    }
+}
@@ -0,0 +1,55 @@
+package com.inventoryapi.analytics;
+
+/**
+ * Variation d'inventaire produite par une mutation de stock ou de réservation,
+ * appliquée aux agrégats après validation de la transaction
+ */
+public class InventoryDelta {
+
+    private final Long productId;
+    private final String sku;
+    private final Integer storeIdx;
+    private final String storeId;
+    private final long unitsDelta;
+    private final long reservedDelta;
+    private final double unitPrice;
+
+    public InventoryDelta(Long productId, String sku, Integer storeIdx, String storeId,
+                          long unitsDelta, long reservedDelta, double unitPrice) {
+        this.productId = productId;
+        this.sku = sku;
+        this.storeIdx = storeIdx;
+        this.storeId = storeId;
+        this.unitsDelta = unitsDelta;
+        this.reservedDelta = reservedDelta;
+        this.unitPrice = unitPrice;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public String getSku() {
+        return sku;
+    }
+
+    public Integer getStoreIdx() {
+        return storeIdx;
+    }
+
+    public String getStoreId() {
+        return storeId;
+    }
+
+    public long getUnitsDelta() {
+        return unitsDelta;
+    }
+
+    public long getReservedDelta() {
+        return reservedDelta;
+    }
+
+    public double getUnitPrice() {
+        return unitPrice;
+    }
+}
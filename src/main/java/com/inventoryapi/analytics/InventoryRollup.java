@@ -0,0 +1,67 @@
+package com.inventoryapi.analytics;
+
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Agrégat d'inventaire d'un magasin ou d'un produit.
+ * Les compteurs sont des adders : les mises à jour concurrentes ne se bloquent pas.
+ */
+public class InventoryRollup {
+
+    private final Number id;
+    private final String code;
+    private final LongAdder totalUnits = new LongAdder();
+    private final LongAdder reservedUnits = new LongAdder();
+    private final DoubleAdder stockValue = new DoubleAdder();
+
+    public InventoryRollup(Number id, String code) {
+        this.id = id;
+        this.code = code;
+    }
+
+    void add(long unitsDelta, long reservedDelta, double valueDelta) {
+        if (unitsDelta != 0) {
+            totalUnits.add(unitsDelta);
+        }
+        if (reservedDelta != 0) {
+            reservedUnits.add(reservedDelta);
+        }
+        if (valueDelta != 0) {
+            stockValue.add(valueDelta);
+        }
+    }
+
+    /**
+     * Identifiant du magasin (clé entière) ou du produit
+     */
+    public Number getId() {
+        return id;
+    }
+
+    /**
+     * Code magasin ou SKU
+     */
+    public String getCode() {
+        return code;
+    }
+
+    public long getTotalUnits() {
+        return totalUnits.sum();
+    }
+
+    public long getReservedUnits() {
+        return reservedUnits.sum();
+    }
+
+    public long getAvailableUnits() {
+        return getTotalUnits() - getReservedUnits();
+    }
+
+    /**
+     * Valeur du stock (prix × quantité), arrondie au centime
+     */
+    public double getStockValue() {
+        return Math.round(stockValue.sum() * 100) / 100.0;
+    }
+}
@@ -0,0 +1,45 @@
+package com.inventoryapi.controllers;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.inventoryapi.analytics.InventoryAnalytics;
+import com.inventoryapi.analytics.InventoryRollup;
+
+@RestController
+@RequestMapping("/api/analytics")
+public class AnalyticsController {
+
+    @Autowired
+    private InventoryAnalytics inventoryAnalytics;
+
+    /**
+     * Unités en stock, unités réservées et valeur du stock par magasin
+     */
+    @GetMapping("/stores")
+    public ResponseEntity<List<InventoryRollup>> getStoreRollups() {
+        return new ResponseEntity<>(inventoryAnalytics.getStoreRollups(), HttpStatus.OK);
+    }
+
+    /**
+     * Unités en stock, unités réservées et valeur du stock par produit
+     */
+    @GetMapping("/products")
+    public ResponseEntity<List<InventoryRollup>> getProductRollups() {
+        return new ResponseEntity<>(inventoryAnalytics.getProductRollups(), HttpStatus.OK);
+    }
+
+    /**
+     * Demande la réconciliation des agrégats avec la base, exécutée par la tâche planifiée :
+     * des appels répétés ne déclenchent qu'un seul parcours complet
+     */
+    @PostMapping("/reconcile")
+    public ResponseEntity<Void> reconcile() {
+        inventoryAnalytics.markStale();
+        return new ResponseEntity<>(HttpStatus.ACCEPTED);
+    }
+}
@@ -1,14 +1,20 @@
 package com.inventoryapi.controllers;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import com.inventoryapi.models.Product;
+import com.inventoryapi.models.Store;
+import com.inventoryapi.ratelimit.TrafficClass;
+import com.inventoryapi.ratelimit.TrafficPriority;
 import com.inventoryapi.services.ProductService;
 import com.inventoryapi.exceptions.ResourceNotFoundException;
 
@@ -21,21 +27,39 @@ public class ProductController {
 
     /**
      * Récupère tous les produits
+     * Répond 304 sans charger ni sérialiser les produits si le catalogue n'a pas changé (If-None-Match) ;
+     * la version du catalogue coûte au plus une requête d'agrégat par TTL (voir CatalogVersionCache)
      */
     @GetMapping
-    public ResponseEntity<List<Product>> getAllProducts() {
+    public ResponseEntity<List<Product>> getAllProducts(WebRequest request) {
+        String eTag = "\"catalog-" + productService.getCatalogVersion() + "\"";
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+
         List<Product> products = productService.getAllProducts();
-        return new ResponseEntity<>(products, HttpStatus.OK);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .body(products);
     }
 
     /**
      * Récupère un produit par son ID
+     * Répond 304 sans sérialisation si la version du produit n'a pas changé (If-None-Match)
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Product> getProductById(@PathVariable Long id) {
+    public ResponseEntity<Product> getProductById(@PathVariable Long id, WebRequest request) {
         Optional<Product> product = productService.getProductById(id);
         if (product.isPresent()) {
-            return new ResponseEntity<>(product.get(), HttpStatus.OK);
+            String eTag = "\"product-" + id + "-" + product.get().getVersion() + "\"";
+            if (request.checkNotModified(eTag)) {
+                return null;
+            }
+            return ResponseEntity.ok()
+                    .eTag(eTag)
+                    .cacheControl(CacheControl.noCache())
+                    .body(product.get());
         } else {
             throw new ResourceNotFoundException("Produit non trouvé avec l'ID: " + id);
         }
@@ -96,8 +120,20 @@ public class ProductController {
         return productService.checkStockAvailability(storeId, sku, quantity);
     }
 
+    /**
+     * Vérifie la disponibilité d'un produit dans plusieurs magasins
+     */
+    @GetMapping("/availability/{sku}/{quantity}")
+    public Map<String, Boolean> checkProductAvailabilityInStores(
+            @PathVariable String sku,
+            @PathVariable int quantity,
+            @RequestParam List<String> stores) {
+        return productService.checkStockAvailability(stores, sku, quantity);
+    }
+
     /**
      * Met à jour le stock d'un produit dans un magasin
+     * Un code magasin trop long est refusé (400) : le magasin ne pourrait pas être enregistré
      */
     @PutMapping("/stock/{storeId}/{sku}")
     public ResponseEntity<Void> updateProductStock(
@@ -105,6 +141,10 @@ public class ProductController {
             @PathVariable String sku,
             @RequestParam int quantity) {
 
+        if (storeId.length() > Store.CODE_MAX_LENGTH) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
         boolean success = productService.updateStock(storeId, sku, quantity);
 
         if (success) {
@@ -114,9 +154,50 @@ public class ProductController {
         }
     }
 
+    /**
+     * Définit le seuil de réapprovisionnement d'un produit dans un magasin
+     * Le seuil est obligatoire et positif ou nul (400 sinon)
+     */
+    @PutMapping("/threshold/{storeId}/{sku}")
+    public ResponseEntity<Void> updateReorderThreshold(
+            @PathVariable String storeId,
+            @PathVariable String sku,
+            @RequestParam(required = false) Integer threshold) {
+
+        if (threshold == null || threshold < 0) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        boolean success = productService.updateReorderThreshold(storeId, sku, threshold);
+
+        if (success) {
+            return new ResponseEntity<>(HttpStatus.OK);
+        } else {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * Supprime le seuil de réapprovisionnement d'un produit dans un magasin
+     */
+    @DeleteMapping("/threshold/{storeId}/{sku}")
+    public ResponseEntity<Void> deleteReorderThreshold(
+            @PathVariable String storeId,
+            @PathVariable String sku) {
+
+        boolean success = productService.updateReorderThreshold(storeId, sku, null);
+
+        if (success) {
+            return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+        } else {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+    }
+
     /**
      * Réserve un produit dans un magasin
      */
+    @TrafficClass(TrafficPriority.RESERVATION)
     @PostMapping("/reserve/{storeId}/{sku}/{quantity}")
     public ResponseEntity<String> reserveProduct(
             @PathVariable String storeId,
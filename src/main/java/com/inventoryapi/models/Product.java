@@ -4,6 +4,9 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Version;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
 
 @Entity
 public class Product {
@@ -17,6 +20,11 @@ public class Product {
     private double price;
     private String sku;
 
+    // Incrémentée à chaque modification, sert d'ETag HTTP
+    @Version
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long version;
+
     // Constructeurs, getters et setters
 
     public Product() {
@@ -69,6 +77,14 @@ public class Product {
         this.sku = sku;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     @Override
     public String toString() {
         return "Product [id=" + id + ", name=" + name + ", price=" + price + ", sku=" + sku + "]";
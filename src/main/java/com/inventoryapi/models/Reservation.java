@@ -5,6 +5,7 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = @Index(name = "idx_reservation_product_store", columnList = "product_id, store_id, active"))
 public class Reservation {
 
     @Id
@@ -15,8 +16,9 @@ public class Reservation {
     @JoinColumn(name = "product_id", nullable = false)
     private Product product;
 
-    @Column(nullable = false)
-    private String storeId;
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "store_id", nullable = false)
+    private Store store;
 
     @Column(nullable = false)
     private int quantity;
@@ -41,10 +43,10 @@ public class Reservation {
         this.active = true;
     }
 
-    public Reservation(Product product, String storeId, int quantity, String reservationCode) {
+    public Reservation(Product product, Store store, int quantity, String reservationCode) {
         this();
         this.product = product;
-        this.storeId = storeId;
+        this.store = store;
         this.quantity = quantity;
         this.reservationCode = reservationCode;
     }
@@ -67,12 +69,12 @@ public class Reservation {
         this.product = product;
     }
 
-    public String getStoreId() {
-        return storeId;
+    public Store getStore() {
+        return store;
     }
 
-    public void setStoreId(String storeId) {
-        this.storeId = storeId;
+    public void setStore(Store store) {
+        this.store = store;
     }
 
     public int getQuantity() {
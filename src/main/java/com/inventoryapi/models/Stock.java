@@ -4,6 +4,7 @@ package com.inventoryapi.models;
 import jakarta.persistence.*;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_stock_product_store", columnNames = {"product_id", "store_id"}))
 public class Stock {
 
     @Id
@@ -14,20 +15,28 @@ public class Stock {
     @JoinColumn(name = "product_id", nullable = false)
     private Product product;
 
-    @Column(nullable = false)
-    private String storeId;
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "store_id", nullable = false)
+    private Store store;
 
     @Column(nullable = false)
     private int quantity;
 
+    // Seuil de réapprovisionnement (null = pas d'alerte)
+    private Integer reorderThreshold;
+
+    // Vrai tant qu'une alerte a été émise et que le stock n'est pas repassé au-dessus du seuil
+    @Column(nullable = false)
+    private boolean belowThreshold;
+
     // Constructeurs, getters et setters
 
     public Stock() {
     }
 
-    public Stock(Product product, String storeId, int quantity) {
+    public Stock(Product product, Store store, int quantity) {
         this.product = product;
-        this.storeId = storeId;
+        this.store = store;
         this.quantity = quantity;
     }
 
@@ -47,12 +56,12 @@ public class Stock {
         this.product = product;
     }
 
-    public String getStoreId() {
-        return storeId;
+    public Store getStore() {
+        return store;
     }
 
-    public void setStoreId(String storeId) {
-        this.storeId = storeId;
+    public void setStore(Store store) {
+        this.store = store;
     }
 
     public int getQuantity() {
@@ -62,4 +71,20 @@ public class Stock {
     public void setQuantity(int quantity) {
         this.quantity = quantity;
     }
+
+    public Integer getReorderThreshold() {
+        return reorderThreshold;
+    }
+
+    public void setReorderThreshold(Integer reorderThreshold) {
+        this.reorderThreshold = reorderThreshold;
+    }
+
+    public boolean isBelowThreshold() {
+        return belowThreshold;
+    }
+
+    public void setBelowThreshold(boolean belowThreshold) {
+        this.belowThreshold = belowThreshold;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,69 @@
+// Store.java
+package com.inventoryapi.models;
+
+import jakarta.persistence.*;
+
+/**
+ * Table de référence des magasins : le code métier (ex. "STORE-001") n'est
+ * stocké qu'une seule fois, les tables stock et reservation ne portent que
+ * la clé entière compacte.
+ */
+@Entity
+@Table(name = "store")
+public class Store {
+
+    // Longueur des anciens codes magasin (colonne VARCHAR par défaut de la table stock)
+    public static final int CODE_MAX_LENGTH = 255;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(nullable = false, unique = true, length = CODE_MAX_LENGTH)
+    private String code;
+
+    private String name;
+
+    // Constructeurs, getters et setters
+
+    public Store() {
+    }
+
+    public Store(String code) {
+        this.code = code;
+    }
+
+    public Store(String code, String name) {
+        this.code = code;
+        this.name = name;
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public String toString() {
+        return "Store [id=" + id + ", code=" + code + "]";
+    }
+}
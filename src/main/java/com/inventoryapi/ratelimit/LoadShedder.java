@@ -0,0 +1,102 @@
+package com.inventoryapi.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Délestage selon la pression sur le pool de connexions.
+ * L'attente moyenne d'acquisition d'une connexion est recalculée au plus
+ * une fois par période à partir du timer Hikari {@code hikaricp.connections.acquire} ;
+ * entre deux échantillons, la décision ne coûte qu'une lecture volatile.
+ */
+@Component
+public class LoadShedder {
+
+    static final String ACQUIRE_TIMER = "hikaricp.connections.acquire";
+    static final String PENDING_GAUGE = "hikaricp.connections.pending";
+
+    private final MeterRegistry meterRegistry;
+    private final RateLimitProperties properties;
+    private final LongSupplier clock;
+
+    private final AtomicLong nextSampleAt;
+    private volatile double poolWaitMillis;
+    private long lastCount;
+    private double lastTotalMillis;
+
+    @Autowired
+    public LoadShedder(MeterRegistry meterRegistry, RateLimitProperties properties) {
+        this(meterRegistry, properties, System::nanoTime);
+    }
+
+    public LoadShedder(MeterRegistry meterRegistry, RateLimitProperties properties, LongSupplier clock) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+        this.clock = clock;
+        this.nextSampleAt = new AtomicLong(clock.getAsLong());
+        Gauge.builder("inventory.loadshed.pool.wait", this, LoadShedder::getPoolWaitMillis)
+                .description("Attente moyenne récente d'une connexion du pool")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Vrai si une requête de cette priorité doit être rejetée immédiatement
+     */
+    public boolean shouldShed(TrafficPriority priority) {
+        RateLimitProperties.Shedding shedding = properties.getShedding();
+        if (!shedding.isEnabled()) {
+            return false;
+        }
+        return currentPoolWaitMillis() > shedding.getPoolWaitThresholdMs() * priority.getSheddingFactor();
+    }
+
+    public double getPoolWaitMillis() {
+        return poolWaitMillis;
+    }
+
+    double currentPoolWaitMillis() {
+        long now = clock.getAsLong();
+        long next = nextSampleAt.get();
+        long interval = TimeUnit.MILLISECONDS.toNanos(properties.getShedding().getSampleIntervalMs());
+        if (now - next >= 0 && nextSampleAt.compareAndSet(next, now + interval)) {
+            sample();
+        }
+        return poolWaitMillis;
+    }
+
+    private synchronized void sample() {
+        long count = 0;
+        double totalMillis = 0;
+        for (Timer timer : meterRegistry.find(ACQUIRE_TIMER).timers()) {
+            count += timer.count();
+            totalMillis += timer.totalTime(TimeUnit.MILLISECONDS);
+        }
+
+        long deltaCount = count - lastCount;
+        double deltaMillis = totalMillis - lastTotalMillis;
+        lastCount = count;
+        lastTotalMillis = totalMillis;
+
+        if (deltaCount > 0) {
+            poolWaitMillis = deltaMillis / deltaCount;
+        } else if (pendingThreads() == 0) {
+            poolWaitMillis = 0;
+        }
+        // Aucune acquisition mais des threads en attente : le pool est bloqué, on garde la dernière mesure
+    }
+
+    private double pendingThreads() {
+        return meterRegistry.find(PENDING_GAUGE).gauges().stream()
+                .mapToDouble(Gauge::value)
+                .sum();
+    }
+}
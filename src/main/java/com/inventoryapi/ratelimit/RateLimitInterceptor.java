@@ -0,0 +1,127 @@
+package com.inventoryapi.ratelimit;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Applique délestage puis limitation de débit avant l'exécution des endpoints.
+ * Les requêtes rejetées reçoivent un 429 sans atteindre le service ni la base.
+ */
+@Component
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private static final int MAX_CLIENT_ID_LENGTH = 64;
+
+    private final RateLimiter rateLimiter;
+    private final LoadShedder loadShedder;
+    private final RateLimitProperties properties;
+
+    private final Map<TrafficPriority, Counter> allowed = new EnumMap<>(TrafficPriority.class);
+    private final Map<TrafficPriority, Counter> limited = new EnumMap<>(TrafficPriority.class);
+    private final Map<TrafficPriority, Counter> shed = new EnumMap<>(TrafficPriority.class);
+
+    @Autowired
+    public RateLimitInterceptor(RateLimiter rateLimiter, LoadShedder loadShedder,
+                                RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.loadShedder = loadShedder;
+        this.properties = properties;
+
+        for (TrafficPriority priority : TrafficPriority.values()) {
+            allowed.put(priority, requestCounter(meterRegistry, priority, "allowed"));
+            limited.put(priority, requestCounter(meterRegistry, priority, "limited"));
+            shed.put(priority, requestCounter(meterRegistry, priority, "shed"));
+        }
+        Gauge.builder("inventory.ratelimit.buckets", rateLimiter, RateLimiter::getBucketCount)
+                .description("Seaux (client, endpoint) en mémoire")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        if (!properties.isEnabled() || !(handler instanceof HandlerMethod)) {
+            return true;
+        }
+
+        TrafficPriority priority = resolvePriority((HandlerMethod) handler, request);
+
+        if (loadShedder.shouldShed(priority)) {
+            shed.get(priority).increment();
+            reject(response, 1, "Service surchargé, veuillez réessayer");
+            return false;
+        }
+
+        String clientId = resolveClientId(request);
+        String endpoint = resolveEndpoint(request);
+
+        if (!rateLimiter.tryAcquire(clientId, endpoint, priority)) {
+            limited.get(priority).increment();
+            reject(response, rateLimiter.retryAfterSeconds(clientId, endpoint, priority), "Trop de requêtes");
+            return false;
+        }
+
+        allowed.get(priority).increment();
+        return true;
+    }
+
+    private TrafficPriority resolvePriority(HandlerMethod handler, HttpServletRequest request) {
+        TrafficClass trafficClass = handler.getMethodAnnotation(TrafficClass.class);
+        if (trafficClass != null) {
+            return trafficClass.value();
+        }
+        return "GET".equals(request.getMethod()) ? TrafficPriority.READ : TrafficPriority.WRITE;
+    }
+
+    /**
+     * L'en-tête client n'est cru que s'il est posé par un proxy de confiance :
+     * sinon un client pourrait changer d'identifiant à chaque requête pour obtenir des seaux neufs
+     */
+    private String resolveClientId(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        String clientId = request.getHeader(properties.getClientHeader());
+        if (clientId == null || clientId.isBlank() || !properties.getTrustedProxies().contains(remoteAddr)) {
+            return remoteAddr;
+        }
+        // Borne la taille des clés pour qu'un client ne puisse pas gonfler la mémoire
+        return clientId.length() > MAX_CLIENT_ID_LENGTH ? clientId.substring(0, MAX_CLIENT_ID_LENGTH) : clientId;
+    }
+
+    private String resolveEndpoint(HttpServletRequest request) {
+        // Le motif (ex. /availability/{storeId}/{sku}/{quantity}) et non l'URI, pour un seau par endpoint
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + ' ' + (pattern != null ? pattern : request.getRequestURI());
+    }
+
+    private void reject(HttpServletResponse response, long retryAfterSeconds, String message) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write(message);
+    }
+
+    private static Counter requestCounter(MeterRegistry registry, TrafficPriority priority, String outcome) {
+        return Counter.builder("inventory.ratelimit.requests")
+                .description("Requêtes filtrées par la limitation de débit")
+                .tag("priority", priority.name().toLowerCase())
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+}
@@ -0,0 +1,191 @@
+package com.inventoryapi.ratelimit;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration de la limitation de débit (préfixe {@code inventory.rate-limit})
+ */
+@Component
+@ConfigurationProperties(prefix = "inventory.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * En-tête identifiant le client, pris en compte uniquement depuis un proxy de confiance
+     */
+    private String clientHeader = "X-Client-Id";
+
+    /**
+     * Adresses des proxys (passerelle authentifiante) autorisés à fournir l'en-tête client ;
+     * pour toute autre adresse, le seau est celui de l'adresse IP
+     */
+    private List<String> trustedProxies = new ArrayList<>();
+
+    /**
+     * Nombre maximal de seaux (client, endpoint) conservés en mémoire
+     */
+    private int maxBuckets = 100_000;
+
+    private Limit read = new Limit(100, 50);
+    private Limit write = new Limit(50, 20);
+    private Limit reservation = new Limit(20, 10);
+
+    private Shedding shedding = new Shedding();
+
+    public Limit getLimit(TrafficPriority priority) {
+        switch (priority) {
+            case RESERVATION:
+                return reservation;
+            case WRITE:
+                return write;
+            default:
+                return read;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getClientHeader() {
+        return clientHeader;
+    }
+
+    public void setClientHeader(String clientHeader) {
+        this.clientHeader = clientHeader;
+    }
+
+    public List<String> getTrustedProxies() {
+        return trustedProxies;
+    }
+
+    public void setTrustedProxies(List<String> trustedProxies) {
+        this.trustedProxies = trustedProxies;
+    }
+
+    public int getMaxBuckets() {
+        return maxBuckets;
+    }
+
+    public void setMaxBuckets(int maxBuckets) {
+        this.maxBuckets = maxBuckets;
+    }
+
+    public Limit getRead() {
+        return read;
+    }
+
+    public void setRead(Limit read) {
+        this.read = read;
+    }
+
+    public Limit getWrite() {
+        return write;
+    }
+
+    public void setWrite(Limit write) {
+        this.write = write;
+    }
+
+    public Limit getReservation() {
+        return reservation;
+    }
+
+    public void setReservation(Limit reservation) {
+        this.reservation = reservation;
+    }
+
+    public Shedding getShedding() {
+        return shedding;
+    }
+
+    public void setShedding(Shedding shedding) {
+        this.shedding = shedding;
+    }
+
+    public static class Limit {
+
+        /**
+         * Taille de rafale autorisée
+         */
+        private int capacity;
+
+        /**
+         * Jetons rechargés par seconde
+         */
+        private double refillPerSecond;
+
+        public Limit() {
+        }
+
+        public Limit(int capacity, double refillPerSecond) {
+            this.capacity = capacity;
+            this.refillPerSecond = refillPerSecond;
+        }
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(int capacity) {
+            this.capacity = capacity;
+        }
+
+        public double getRefillPerSecond() {
+            return refillPerSecond;
+        }
+
+        public void setRefillPerSecond(double refillPerSecond) {
+            this.refillPerSecond = refillPerSecond;
+        }
+    }
+
+    public static class Shedding {
+
+        private boolean enabled = true;
+
+        /**
+         * Attente moyenne d'une connexion au-delà de laquelle les lectures sont délestées.
+         * Les autres classes sont délestées à un multiple de ce seuil.
+         */
+        private long poolWaitThresholdMs = 50;
+
+        /**
+         * Période d'échantillonnage de l'attente du pool
+         */
+        private long sampleIntervalMs = 250;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public long getPoolWaitThresholdMs() {
+            return poolWaitThresholdMs;
+        }
+
+        public void setPoolWaitThresholdMs(long poolWaitThresholdMs) {
+            this.poolWaitThresholdMs = poolWaitThresholdMs;
+        }
+
+        public long getSampleIntervalMs() {
+            return sampleIntervalMs;
+        }
+
+        public void setSampleIntervalMs(long sampleIntervalMs) {
+            this.sampleIntervalMs = sampleIntervalMs;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.inventoryapi.ratelimit;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Limiteur de débit par client et par endpoint.
+ * La mémoire est bornée : au-delà de {@code maxBuckets}, les nouveaux clients partagent
+ * un seau de débordement par endpoint. Les seaux pleins (inactifs) sont purgés par une
+ * tâche planifiée, jamais sur le thread de requête : un afflux de nouveaux clients
+ * ne déclenche aucun parcours de la table.
+ */
+@Component
+public class RateLimiter {
+
+    private final RateLimitProperties properties;
+    private final LongSupplier clock;
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final Map<String, TokenBucket> overflowBuckets = new ConcurrentHashMap<>();
+
+    @Autowired
+    public RateLimiter(RateLimitProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    public RateLimiter(RateLimitProperties properties, LongSupplier clock) {
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    /**
+     * Tente de consommer un jeton pour ce client sur cet endpoint
+     */
+    public boolean tryAcquire(String clientId, String endpoint, TrafficPriority priority) {
+        long now = clock.getAsLong();
+        return bucketFor(clientId, endpoint, priority, now).tryConsume(now);
+    }
+
+    /**
+     * Délai conseillé avant de réessayer, en secondes (au moins 1)
+     */
+    public long retryAfterSeconds(String clientId, String endpoint, TrafficPriority priority) {
+        long now = clock.getAsLong();
+        TokenBucket bucket = buckets.get(key(clientId, endpoint, priority));
+        if (bucket == null) {
+            bucket = overflowBuckets.get(key("", endpoint, priority));
+        }
+        long nanos = bucket != null ? bucket.nanosUntilNextToken(now) : 0L;
+        return Math.max(1L, (nanos + 999_999_999L) / 1_000_000_000L);
+    }
+
+    public int getBucketCount() {
+        return buckets.size();
+    }
+
+    private TokenBucket bucketFor(String clientId, String endpoint, TrafficPriority priority, long now) {
+        String key = key(clientId, endpoint, priority);
+        TokenBucket bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+
+        if (buckets.size() >= properties.getMaxBuckets()) {
+            // Table pleine jusqu'à la prochaine purge
+            return overflowBuckets.computeIfAbsent(key("", endpoint, priority),
+                    k -> newBucket(priority, now));
+        }
+        return buckets.computeIfAbsent(key, k -> newBucket(priority, now));
+    }
+
+    /**
+     * Purge des seaux inactifs, hors du chemin des requêtes
+     */
+    @Scheduled(fixedDelayString = "${inventory.rate-limit.eviction-interval-ms:1000}")
+    public void evictIdle() {
+        long now = clock.getAsLong();
+        Iterator<TokenBucket> it = buckets.values().iterator();
+        while (it.hasNext()) {
+            if (it.next().isIdle(now)) {
+                it.remove();
+            }
+        }
+    }
+
+    private TokenBucket newBucket(TrafficPriority priority, long now) {
+        RateLimitProperties.Limit limit = properties.getLimit(priority);
+        return new TokenBucket(limit.getCapacity(), limit.getRefillPerSecond(), now);
+    }
+
+    private static String key(String clientId, String endpoint, TrafficPriority priority) {
+        return priority.name() + '|' + endpoint + '|' + clientId;
+    }
+}
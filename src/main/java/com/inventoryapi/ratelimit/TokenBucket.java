@@ -0,0 +1,58 @@
+package com.inventoryapi.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Seau à jetons sans verrou, implémenté selon l'algorithme GCRA :
+ * tout l'état tient dans un seul {@code long} (instant théorique d'arrivée,
+ * en nanosecondes) mis à jour par compare-and-set.
+ *
+ * Un seau dont l'instant théorique est passé est plein, donc indiscernable
+ * d'un seau neuf : il peut être supprimé sans perte d'information.
+ */
+public class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrival;
+
+    public TokenBucket(int capacity, double refillPerSecond, long nowNanos) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("Capacité et débit doivent être positifs");
+        }
+        this.emissionIntervalNanos = Math.max(1L, (long) (1_000_000_000L / refillPerSecond));
+        this.burstToleranceNanos = emissionIntervalNanos * (capacity - 1);
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Consomme un jeton si disponible
+     */
+    public boolean tryConsume(long nowNanos) {
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long base = tat - nowNanos > 0 ? tat : nowNanos;
+            if (base - nowNanos > burstToleranceNanos) {
+                return false;
+            }
+            if (theoreticalArrival.compareAndSet(tat, base + emissionIntervalNanos)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Délai avant le prochain jeton disponible (0 si un jeton est disponible)
+     */
+    public long nanosUntilNextToken(long nowNanos) {
+        long wait = theoreticalArrival.get() - nowNanos - burstToleranceNanos;
+        return Math.max(0L, wait);
+    }
+
+    /**
+     * Vrai si le seau est plein
+     */
+    public boolean isIdle(long nowNanos) {
+        return theoreticalArrival.get() - nowNanos <= 0;
+    }
+}
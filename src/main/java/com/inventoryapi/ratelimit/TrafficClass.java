@@ -0,0 +1,16 @@
+package com.inventoryapi.ratelimit;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Fixe explicitement la classe de priorité d'un endpoint.
+ * Sans annotation, les GET sont des lectures et les autres méthodes des écritures.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface TrafficClass {
+    TrafficPriority value();
+}
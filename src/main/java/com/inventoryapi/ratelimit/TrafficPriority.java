@@ -0,0 +1,23 @@
+package com.inventoryapi.ratelimit;
+
+/**
+ * Classes de priorité du trafic.
+ * Le facteur de délestage multiplie le seuil d'attente du pool de connexions :
+ * les lectures sont délestées en premier, les réservations en dernier.
+ */
+public enum TrafficPriority {
+
+    READ(1.0),
+    WRITE(2.0),
+    RESERVATION(4.0);
+
+    private final double sheddingFactor;
+
+    TrafficPriority(double sheddingFactor) {
+        this.sheddingFactor = sheddingFactor;
+    }
+
+    public double getSheddingFactor() {
+        return sheddingFactor;
+    }
+}
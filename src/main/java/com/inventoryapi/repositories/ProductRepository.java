@@ -1,6 +1,7 @@
 package com.inventoryapi.repositories;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.inventoryapi.models.Product;
@@ -10,4 +11,17 @@ import java.util.Optional;
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
     Optional<Product> findBySku(String sku);
+
+    /**
+     * Empreinte du catalogue : change à chaque création, modification ou suppression de produit
+     */
+    @Query("select count(p) as productCount, coalesce(sum(p.version), 0) as versionSum, "
+            + "coalesce(max(p.id), 0) as maxId from Product p")
+    CatalogFingerprint getCatalogFingerprint();
+
+    interface CatalogFingerprint {
+        long getProductCount();
+        long getVersionSum();
+        long getMaxId();
+    }
 }
\ No newline at end of file
@@ -1,10 +1,14 @@
 package com.inventoryapi.repositories;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.inventoryapi.models.Product;
 import com.inventoryapi.models.Reservation;
+import com.inventoryapi.models.Store;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -12,7 +16,24 @@ import java.util.Optional;
 
 @Repository
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
-    List<Reservation> findByProductAndStoreIdAndActiveTrue(Product product, String storeId);
+    List<Reservation> findByProductAndStoreAndActiveTrue(Product product, Store store);
     List<Reservation> findByExpiresAtBeforeAndActiveTrue(LocalDateTime dateTime);
     Optional<Reservation> findByReservationCode(String reservationCode);
+
+    @Modifying
+    @Query("delete from Reservation r where r.product.id = :productId")
+    int deleteByProductId(@Param("productId") Long productId);
+
+    @Query("select r.store.id as key, sum(r.quantity) as reserved from Reservation r "
+            + "where r.active = true group by r.store.id")
+    List<ReservedTotals> sumActiveByStore();
+
+    @Query("select r.product.id as key, sum(r.quantity) as reserved from Reservation r "
+            + "where r.active = true group by r.product.id")
+    List<ReservedTotals> sumActiveByProduct();
+
+    interface ReservedTotals {
+        Number getKey();
+        long getReserved();
+    }
 }
\ No newline at end of file
@@ -1,15 +1,39 @@
 package com.inventoryapi.repositories;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.inventoryapi.models.Product;
 import com.inventoryapi.models.Stock;
+import com.inventoryapi.models.Store;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface StockRepository extends JpaRepository<Stock, Long> {
-    Optional<Stock> findByProductAndStoreId(Product product, String storeId);
-    Optional<Stock> findByProduct_SkuAndStoreId(String sku, String storeId);
+    Optional<Stock> findByProductAndStore(Product product, Store store);
+    Optional<Stock> findByProduct_SkuAndStore(String sku, Store store);
+
+    @Modifying
+    @Query("delete from Stock s where s.product.id = :productId")
+    int deleteByProductId(@Param("productId") Long productId);
+
+    @Query("select s.store.id as key, s.store.code as code, sum(s.quantity) as units, "
+            + "sum(s.quantity * s.product.price) as stockValue from Stock s group by s.store.id, s.store.code")
+    List<StockTotals> sumByStore();
+
+    @Query("select s.product.id as key, s.product.sku as code, sum(s.quantity) as units, "
+            + "sum(s.quantity * s.product.price) as stockValue from Stock s group by s.product.id, s.product.sku")
+    List<StockTotals> sumByProduct();
+
+    interface StockTotals {
+        Number getKey();
+        String getCode();
+        long getUnits();
+        double getStockValue();
+    }
 }
@@ -0,0 +1,13 @@
+package com.inventoryapi.repositories;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.inventoryapi.models.Store;
+
+import java.util.Optional;
+
+@Repository
+public interface StoreRepository extends JpaRepository<Store, Integer> {
+    Optional<Store> findByCode(String code);
+}
@@ -0,0 +1,69 @@
+package com.inventoryapi.services;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.inventoryapi.repositories.ProductRepository;
+import com.inventoryapi.repositories.ProductRepository.CatalogFingerprint;
+
+/**
+ * Version du catalogue mise en cache, utilisée comme ETag de la liste des produits.
+ * Invalidée immédiatement par les écritures de cette instance ; les écritures
+ * faites par d'autres instances sont prises en compte au plus tard après le TTL.
+ * Chaque calcul exécute la requête d'agrégat {@link ProductRepository#getCatalogFingerprint()}
+ * (parcours de la table product) : au plus une fois par TTL, plus une fois après chaque écriture locale.
+ */
+@Component
+public class CatalogVersionCache {
+
+    private final ProductRepository productRepository;
+    private final long ttlNanos;
+
+    // Incrémenté à chaque invalidation pour ignorer un calcul concurrent devenu obsolète
+    private final AtomicLong generation = new AtomicLong();
+    private volatile CachedVersion cached;
+
+    @Autowired
+    public CatalogVersionCache(ProductRepository productRepository,
+                               @Value("${inventory.catalog.version-ttl-ms:1000}") long ttlMillis) {
+        this.productRepository = productRepository;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+    }
+
+    public String getVersion() {
+        CachedVersion current = cached;
+        long now = System.nanoTime();
+        if (current != null && now - current.computedAt < ttlNanos) {
+            return current.version;
+        }
+
+        long startGeneration = generation.get();
+        CatalogFingerprint fingerprint = productRepository.getCatalogFingerprint();
+        String version = fingerprint.getProductCount() + "-" + fingerprint.getVersionSum()
+                + "-" + fingerprint.getMaxId();
+
+        if (generation.get() == startGeneration) {
+            cached = new CachedVersion(version, now);
+        }
+        return version;
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        cached = null;
+    }
+
+    private static final class CachedVersion {
+        private final String version;
+        private final long computedAt;
+
+        private CachedVersion(String version, long computedAt) {
+            this.version = version;
+            this.computedAt = computedAt;
+        }
+    }
+}
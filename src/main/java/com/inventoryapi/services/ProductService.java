@@ -1,6 +1,7 @@
 package com.inventoryapi.services;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import com.inventoryapi.models.Product;
@@ -12,6 +13,11 @@ public interface ProductService {
      */
     List<Product> getAllProducts();
 
+    /**
+     * Version courante du catalogue (change à chaque modification de produit)
+     */
+    String getCatalogVersion();
+
     /**
      * Récupérer un produit par son ID
      */
@@ -32,11 +38,21 @@ public interface ProductService {
      */
     boolean checkStockAvailability(String storeId, String sku, int quantity);
 
+    /**
+     * Vérifier la disponibilité du stock dans plusieurs magasins
+     */
+    Map<String, Boolean> checkStockAvailability(List<String> storeIds, String sku, int quantity);
+
     /**
      * Mettre à jour le stock d'un produit
      */
     boolean updateStock(String storeId, String sku, int quantity);
 
+    /**
+     * Définir le seuil de réapprovisionnement d'un produit dans un magasin (null = pas d'alerte)
+     */
+    boolean updateReorderThreshold(String storeId, String sku, Integer threshold);
+
     /**
      * Réserver un produit
      */
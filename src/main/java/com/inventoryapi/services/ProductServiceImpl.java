@@ -1,17 +1,25 @@
 package com.inventoryapi.services;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
+import com.inventoryapi.alerts.LowStockAlert;
+import com.inventoryapi.analytics.InventoryAnalytics;
+import com.inventoryapi.analytics.InventoryDelta;
 import com.inventoryapi.models.Reservation;
 import com.inventoryapi.models.Stock;
+import com.inventoryapi.models.Store;
 import com.inventoryapi.repositories.ReservationRepository;
 import com.inventoryapi.repositories.StockRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.inventoryapi.models.Product;
 import com.inventoryapi.repositories.ProductRepository;
@@ -28,11 +36,34 @@ public class ProductServiceImpl implements ProductService {
     @Autowired
     private ReservationRepository reservationRepository;
 
+    @Autowired
+    private StoreRegistry storeRegistry;
+
+    @Autowired
+    private StockIndex stockIndex;
+
+    @Autowired
+    private CatalogVersionCache catalogVersionCache;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private InventoryAnalytics inventoryAnalytics;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     @Override
     public List<Product> getAllProducts() {
         return productRepository.findAll();
     }
 
+    @Override
+    public String getCatalogVersion() {
+        return catalogVersionCache.getVersion();
+    }
+
     @Override
     public Optional<Product> getProductById(Long id) {
         return productRepository.findById(id);
@@ -40,41 +71,71 @@ public class ProductServiceImpl implements ProductService {
 
     @Override
     public Product saveProduct(Product product) {
-        return productRepository.save(product);
+        Product saved = productRepository.save(product);
+        catalogVersionCache.invalidate();
+        // Un changement de prix modifie la valeur du stock de tous les magasins
+        inventoryAnalytics.markStale();
+        return saved;
     }
 
+    /**
+     * Les réservations et stocks du produit sont supprimés avec lui, dans la même transaction
+     */
     @Override
+    @Transactional
     public void deleteProduct(Long id) {
+        reservationRepository.deleteByProductId(id);
+        stockRepository.deleteByProductId(id);
         productRepository.deleteById(id);
+        catalogVersionCache.invalidate();
+        inventoryAnalytics.markStale();
     }
 
+    /**
+     * Lecture seule : la ligne est cherchée par SKU et magasin, sans consulter ni alimenter l'index
+     */
     @Override
     public boolean checkStockAvailability(String storeId, String sku, int quantity) {
-        Optional<Stock> stockOpt = stockRepository.findByProduct_SkuAndStoreId(sku, storeId);
-
-        if (!stockOpt.isPresent()) {
+        Optional<Store> storeOpt = storeRegistry.findByCode(storeId);
+        if (!storeOpt.isPresent()) {
             return false;
         }
 
-        Stock stock = stockOpt.get();
-
-        // Récupérer les réservations actives pour calculer le stock disponible
-        List<Reservation> activeReservations = reservationRepository
-                .findByProductAndStoreIdAndActiveTrue(stock.getProduct(), storeId);
+        Optional<Stock> stockOpt = stockRepository.findByProduct_SkuAndStore(sku, storeOpt.get());
 
-        int reservedQuantity = activeReservations.stream()
-                .mapToInt(Reservation::getQuantity)
-                .sum();
+        if (!stockOpt.isPresent()) {
+            return false;
+        }
 
-        // Stock disponible = stock physique - réservations actives
-        int availableStock = stock.getQuantity() - reservedQuantity;
+        return getAvailableQuantity(stockOpt.get()) >= quantity;
+    }
 
-        return availableStock >= quantity;
+    @Override
+    public Map<String, Boolean> checkStockAvailability(List<String> storeIds, String sku, int quantity) {
+        Map<String, Boolean> availability = new LinkedHashMap<>();
+        for (String storeId : storeIds) {
+            availability.put(storeId, checkStockAvailability(storeId, sku, quantity));
+        }
+        return availability;
     }
 
+    /**
+     * Le magasin est résolu (et créé s'il est inconnu) avant l'ouverture de la transaction de stock :
+     * la création utilise sa propre connexion, qui ne doit pas être demandée pendant qu'une autre est tenue
+     */
     @Override
-    @Transactional
     public boolean updateStock(String storeId, String sku, int quantity) {
+        Optional<Store> storeOpt = storeRegistry.findByCode(storeId);
+        if (!storeOpt.isPresent() && !productRepository.findBySku(sku).isPresent()) {
+            // Pas de magasin créé pour un produit inconnu
+            return false;
+        }
+
+        Store store = storeOpt.orElseGet(() -> storeRegistry.getOrCreate(storeId));
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> updateStock(store, sku, quantity)));
+    }
+
+    private boolean updateStock(Store store, String sku, int quantity) {
         // Trouver le produit par SKU
         Optional<Product> productOpt = productRepository.findBySku(sku);
         if (!productOpt.isPresent()) {
@@ -84,20 +145,28 @@ public class ProductServiceImpl implements ProductService {
         Product product = productOpt.get();
 
         // Trouver ou créer le stock pour ce produit dans ce magasin
-        Optional<Stock> stockOpt = stockRepository.findByProductAndStoreId(product, storeId);
+        Optional<Stock> stockOpt = findStock(product, store);
         Stock stock;
+        int previousQuantity = 0;
 
         if (stockOpt.isPresent()) {
             stock = stockOpt.get();
+            previousQuantity = stock.getQuantity();
             stock.setQuantity(quantity);
         } else {
-            stock = new Stock(product, storeId, quantity);
+            stock = new Stock(product, store, quantity);
         }
 
-        stockRepository.save(stock);
+        stock = stockRepository.save(stock);
+        indexStock(stock);
+        publishDelta(stock, quantity - previousQuantity, 0);
+
+        if (stock.getReorderThreshold() != null) {
+            evaluateThreshold(stock, getAvailableQuantity(stock));
+        }
 
         // Simuler la synchronisation avec d'autres magasins (pourrait avoir un bug ici)
-        // syncStockWithOtherStores(product, storeId);
+        // syncStockWithOtherStores(product, store);
 
         return true;
     }
@@ -105,9 +174,9 @@ public class ProductServiceImpl implements ProductService {
     @Override
     @Transactional
     public String reserveProduct(String storeId, String sku, int quantity) {
-        // Vérifier la disponibilité
-        if (!checkStockAvailability(storeId, sku, quantity)) {
-            return null; // Stock insuffisant
+        Optional<Store> storeOpt = storeRegistry.findByCode(storeId);
+        if (!storeOpt.isPresent()) {
+            return null;
         }
 
         // Trouver le produit
@@ -117,19 +186,138 @@ public class ProductServiceImpl implements ProductService {
         }
 
         Product product = productOpt.get();
+        Store store = storeOpt.get();
+
+        // Vérifier la disponibilité
+        Optional<Stock> stockOpt = findStock(product, store);
+        if (!stockOpt.isPresent()) {
+            return null;
+        }
+
+        Stock stock = stockOpt.get();
+        int availableQuantity = getAvailableQuantity(stock);
+        if (availableQuantity < quantity) {
+            return null; // Stock insuffisant
+        }
 
         // Générer un code de réservation unique
         String reservationCode = UUID.randomUUID().toString();
 
         // Créer la réservation
-        Reservation reservation = new Reservation(product, storeId, quantity, reservationCode);
+        Reservation reservation = new Reservation(product, store, quantity, reservationCode);
         reservationRepository.save(reservation);
+        publishDelta(stock, 0, quantity);
+
+        evaluateThreshold(stock, availableQuantity - quantity);
 
         return reservationCode;
     }
 
+    @Override
+    @Transactional
+    public boolean updateReorderThreshold(String storeId, String sku, Integer threshold) {
+        Optional<Store> storeOpt = storeRegistry.findByCode(storeId);
+        Optional<Product> productOpt = productRepository.findBySku(sku);
+        if (!storeOpt.isPresent() || !productOpt.isPresent()) {
+            return false;
+        }
+
+        Optional<Stock> stockOpt = findStock(productOpt.get(), storeOpt.get());
+        if (!stockOpt.isPresent()) {
+            return false;
+        }
+
+        Stock stock = stockOpt.get();
+        stock.setReorderThreshold(threshold);
+        if (threshold == null) {
+            stock.setBelowThreshold(false);
+        } else {
+            evaluateThreshold(stock, getAvailableQuantity(stock));
+        }
+        stockRepository.save(stock);
+
+        return true;
+    }
+
+    /**
+     * Stock disponible = stock physique - réservations actives
+     */
+    private int getAvailableQuantity(Stock stock) {
+        List<Reservation> activeReservations = reservationRepository
+                .findByProductAndStoreAndActiveTrue(stock.getProduct(), stock.getStore());
+
+        int reservedQuantity = activeReservations.stream()
+                .mapToInt(Reservation::getQuantity)
+                .sum();
+
+        return stock.getQuantity() - reservedQuantity;
+    }
+
+    /**
+     * Recherche le stock via l'index (produit, magasin) puis par clé primaire,
+     * avec repli sur la requête par produit et magasin si l'entrée est absente ou obsolète
+     */
+    private Optional<Stock> findStock(Product product, Store store) {
+        long stockId = stockIndex.find(product.getId(), store.getId());
+        if (stockId != StockIndex.NO_STOCK) {
+            Optional<Stock> indexed = stockRepository.findById(stockId)
+                    .filter(stock -> product.getId().equals(stock.getProduct().getId())
+                            && store.getId().equals(stock.getStore().getId()));
+            if (indexed.isPresent()) {
+                return indexed;
+            }
+            stockIndex.remove(product.getId(), store.getId());
+        }
+
+        Optional<Stock> stockOpt = stockRepository.findByProductAndStore(product, store);
+        stockOpt.ifPresent(this::indexStock);
+        return stockOpt;
+    }
+
+    /**
+     * Évaluation incrémentale du seuil sur la seule ligne modifiée.
+     * Une alerte n'est émise qu'au franchissement du seuil ; elle est réarmée
+     * quand le stock disponible repasse au-dessus. L'alerte est livrée après commit.
+     */
+    private void evaluateThreshold(Stock stock, int availableQuantity) {
+        Integer threshold = stock.getReorderThreshold();
+        if (threshold == null) {
+            return;
+        }
+
+        boolean below = availableQuantity <= threshold;
+        if (below == stock.isBelowThreshold()) {
+            return;
+        }
+
+        stock.setBelowThreshold(below);
+        if (below) {
+            eventPublisher.publishEvent(new LowStockAlert(
+                    stock.getProduct().getId(), stock.getProduct().getSku(),
+                    stock.getStore().getId(), stock.getStore().getCode(),
+                    availableQuantity, threshold));
+        }
+    }
+
+    /**
+     * Variation appliquée aux agrégats d'inventaire après commit
+     */
+    private void publishDelta(Stock stock, long unitsDelta, long reservedDelta) {
+        if (unitsDelta == 0 && reservedDelta == 0) {
+            return;
+        }
+        Product product = stock.getProduct();
+        eventPublisher.publishEvent(new InventoryDelta(product.getId(), product.getSku(),
+                stock.getStore().getId(), stock.getStore().getCode(),
+                unitsDelta, reservedDelta, product.getPrice()));
+    }
+
+    private void indexStock(Stock stock) {
+        stockIndex.put(stock.getProduct().getId(), stock.getStore().getId(), stock.getId());
+    }
+
     // Méthode privée qui peut contenir un bug de synchronisation
-    private void syncStockWithOtherStores(Product product, String sourceStoreId) {
+    private void syncStockWithOtherStores(Product product, Store sourceStore) {
         // Dans une implémentation réelle, cette méthode synchroniserait
         // les informations de stock entre différents magasins
         // Pour le test, nous pouvons simuler un bug ici
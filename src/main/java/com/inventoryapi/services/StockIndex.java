@@ -0,0 +1,144 @@
+package com.inventoryapi.services;
+
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.inventoryapi.utils.LongLongHashMap;
+
+/**
+ * Index en mémoire (produit, magasin) -> identifiant de la ligne de stock.
+ * La clé composite est encodée dans un seul {@code long} (productId sur les
+ * 32 bits de poids fort, index du magasin sur les 32 bits de poids faible),
+ * ce qui évite tout objet clé boxé.
+ *
+ * L'index n'est qu'un raccourci : une entrée obsolète est détectée par
+ * l'appelant (ligne absente ou ne correspondant pas) puis corrigée.
+ * Il n'est alimenté que par les écritures (mise à jour de stock, réservation, seuil).
+ *
+ * Les entrées sont réparties en {@value #SEGMENTS} segments, chacun avec sa table et son verrou :
+ * les écritures sur des couples différents (en particulier sur des shards différents)
+ * ne se disputent pas un verrou unique.
+ *
+ * Taille bornée par {@code inventory.stock-index.max-entries}, répartie entre les segments :
+ * un segment plein est vidé puis se reconstitue au fil des écritures suivantes. Les tables occupent
+ * environ 32 octets par entrée au maximum (16 octets par case, facteur de charge 2/3,
+ * capacité arrondie à la puissance de 2 supérieure), soit environ 32 Mo pour 1 000 000 d'entrées.
+ */
+@Component
+public class StockIndex {
+
+    public static final long NO_STOCK = -1L;
+
+    private static final int SEGMENT_BITS = 6;
+
+    static final int SEGMENTS = 1 << SEGMENT_BITS;
+
+    private final Segment[] segments = new Segment[SEGMENTS];
+
+    private final int maxEntriesPerSegment;
+
+    @Autowired
+    public StockIndex(@Value("${inventory.stock-index.max-entries:1000000}") int maxEntries) {
+        this.maxEntriesPerSegment = Math.max(1, maxEntries / SEGMENTS);
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment();
+        }
+    }
+
+    /**
+     * Retourne l'identifiant de stock indexé, ou {@link #NO_STOCK}
+     */
+    public long find(long productId, int storeIdx) {
+        if (!isIndexable(productId, storeIdx)) {
+            return NO_STOCK;
+        }
+        long key = key(productId, storeIdx);
+        Segment segment = segmentFor(key);
+        segment.lock.readLock().lock();
+        try {
+            return segment.stockIds.get(key, NO_STOCK);
+        } finally {
+            segment.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Le verrou d'écriture n'est pris que si l'entrée change : la mise à jour
+     * d'une ligne déjà indexée ne coûte qu'une lecture
+     */
+    public void put(long productId, int storeIdx, long stockId) {
+        if (!isIndexable(productId, storeIdx)) {
+            return;
+        }
+        long key = key(productId, storeIdx);
+        Segment segment = segmentFor(key);
+        segment.lock.readLock().lock();
+        try {
+            if (segment.stockIds.get(key, NO_STOCK) == stockId) {
+                return;
+            }
+        } finally {
+            segment.lock.readLock().unlock();
+        }
+        segment.lock.writeLock().lock();
+        try {
+            if (segment.stockIds.size() >= maxEntriesPerSegment && !segment.stockIds.containsKey(key)) {
+                segment.stockIds.clear();
+            }
+            segment.stockIds.put(key, stockId, NO_STOCK);
+        } finally {
+            segment.lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long productId, int storeIdx) {
+        if (!isIndexable(productId, storeIdx)) {
+            return;
+        }
+        long key = key(productId, storeIdx);
+        Segment segment = segmentFor(key);
+        segment.lock.writeLock().lock();
+        try {
+            segment.stockIds.remove(key, NO_STOCK);
+        } finally {
+            segment.lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            segment.lock.readLock().lock();
+            try {
+                size += segment.stockIds.size();
+            } finally {
+                segment.lock.readLock().unlock();
+            }
+        }
+        return size;
+    }
+
+    static long key(long productId, int storeIdx) {
+        return (productId << 32) | (storeIdx & 0xFFFFFFFFL);
+    }
+
+    private Segment segmentFor(long key) {
+        // Produit et magasin contribuent tous deux au choix du segment
+        long h = key * 0x9E3779B97F4A7C15L;
+        return segments[(int) (h >>> (64 - SEGMENT_BITS))];
+    }
+
+    private static boolean isIndexable(long productId, int storeIdx) {
+        // Les identifiants hors plage (ou la clé réservée 0) ne sont simplement pas indexés
+        return productId > 0 && productId <= Integer.MAX_VALUE && storeIdx > 0;
+    }
+
+    private static final class Segment {
+        private final LongLongHashMap stockIds = new LongLongHashMap(16);
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    }
+}
@@ -0,0 +1,89 @@
+package com.inventoryapi.services;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.inventoryapi.models.Store;
+import com.inventoryapi.repositories.StoreRepository;
+import com.inventoryapi.sharding.ReferenceDataReplicator;
+import com.inventoryapi.sharding.ShardContext;
+
+/**
+ * Dictionnaire en mémoire code magasin -> {@link Store}.
+ * Le nombre de magasins étant faible (quelques centaines), tous les codes
+ * résolus restent en cache : une seule requête par magasin pour toute la durée de vie de l'instance.
+ */
+@Component
+public class StoreRegistry {
+
+    private final Map<String, Store> storesByCode = new ConcurrentHashMap<>();
+
+    private final StoreRepository storeRepository;
+
+    private final TransactionTemplate requiresNewTransaction;
+
+    // Présent uniquement en mode partitionné
+    private final ObjectProvider<ReferenceDataReplicator> replicator;
+
+    @Autowired
+    public StoreRegistry(StoreRepository storeRepository, PlatformTransactionManager transactionManager,
+                         ObjectProvider<ReferenceDataReplicator> replicator) {
+        this.storeRepository = storeRepository;
+        this.replicator = replicator;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Résout un code magasin existant
+     */
+    public Optional<Store> findByCode(String code) {
+        Store cached = storesByCode.get(code);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<Store> store = storeRepository.findByCode(code);
+        store.ifPresent(s -> storesByCode.putIfAbsent(code, s));
+        return store;
+    }
+
+    /**
+     * Résout un code magasin, en l'enregistrant s'il est inconnu.
+     * La création se fait dans sa propre transaction pour ne pas invalider
+     * la transaction appelante en cas de création concurrente du même code.
+     * Le magasin est toujours créé sur le shard principal, qui attribue les identifiants.
+     * À appeler hors transaction : la création demande une connexion au pool, et un appelant
+     * qui en tient déjà une peut épuiser le pool sous charge.
+     */
+    public Store getOrCreate(String code) {
+        Optional<Store> existing = findByCode(code);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+
+        Store created = ShardContext.callOn(ShardContext.PRIMARY, () -> createOnPrimary(code));
+        replicator.ifAvailable(r -> r.replicateStore(created));
+
+        Store previous = storesByCode.putIfAbsent(code, created);
+        return previous != null ? previous : created;
+    }
+
+    private Store createOnPrimary(String code) {
+        try {
+            return requiresNewTransaction.execute(status -> storeRepository.save(new Store(code)));
+        } catch (DataIntegrityViolationException e) {
+            // Un autre thread vient de créer ce magasin
+            return requiresNewTransaction.execute(status -> storeRepository.findByCode(code).orElseThrow(() -> e));
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.inventoryapi.sharding;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Anneau de hachage cohérent code magasin -> shard.
+ * Chaque shard occupe plusieurs nœuds virtuels positionnés d'après son nom :
+ * ajouter un shard ne déplace qu'environ 1/n des magasins, et la position
+ * d'un shard ne dépend pas de son rang dans la configuration.
+ */
+public class ConsistentHashShardRing {
+
+    private final TreeMap<Long, Integer> ring = new TreeMap<>();
+    private final int shardCount;
+
+    public ConsistentHashShardRing(List<String> shardNames, int virtualNodes) {
+        if (shardNames.isEmpty()) {
+            throw new IllegalArgumentException("Au moins un shard est requis");
+        }
+        this.shardCount = shardNames.size();
+        for (int shard = 0; shard < shardNames.size(); shard++) {
+            for (int node = 0; node < virtualNodes; node++) {
+                ring.put(hash(shardNames.get(shard) + "#" + node), shard);
+            }
+        }
+    }
+
+    public int shardFor(String storeId) {
+        if (shardCount == 1) {
+            return 0;
+        }
+        Map.Entry<Long, Integer> entry = ring.ceilingEntry(hash(storeId));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    /**
+     * FNV-1a 64 bits suivi du mélange final de MurmurHash3
+     */
+    static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,166 @@
+package com.inventoryapi.sharding;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.inventoryapi.models.Product;
+import com.inventoryapi.models.Store;
+
+/**
+ * Recopie les données de référence (produits, magasins) du shard principal
+ * vers les autres shards, où les lignes de stock et de réservation les référencent.
+ * Les identifiants sont ceux attribués par le shard principal.
+ *
+ * Chaque écriture passe par la DataSource propre au shard, hors de toute
+ * transaction JPA en cours sur la DataSource de routage.
+ *
+ * Le shard principal ayant déjà validé sa propre écriture, un échec sur un shard secondaire
+ * n'est pas remonté à l'appelant : il est journalisé et une réparation est planifiée,
+ * qui réaligne les shards secondaires sur le contenu du principal.
+ */
+public class ReferenceDataReplicator {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReferenceDataReplicator.class);
+
+    private final JdbcTemplate primary;
+
+    private final List<JdbcTemplate> replicas;
+
+    private final AtomicBoolean repairNeeded = new AtomicBoolean();
+
+    public ReferenceDataReplicator(DataSource primaryDataSource, List<DataSource> replicaDataSources) {
+        this.primary = new JdbcTemplate(primaryDataSource);
+        this.replicas = replicaDataSources.stream().map(JdbcTemplate::new).toList();
+    }
+
+    public void replicateProduct(Product product) {
+        long version = product.getVersion() != null ? product.getVersion() : 0L;
+        forEachReplica(replica -> upsertProduct(replica, product.getId(), product.getName(),
+                product.getDescription(), product.getPrice(), product.getSku(), version));
+    }
+
+    /**
+     * Supprime les stocks et réservations d'un produit sur les shards secondaires.
+     * À appeler avant la suppression sur le principal : contrairement aux autres méthodes,
+     * un échec est remonté pour que l'appelant abandonne la suppression.
+     */
+    public void deleteDependents(Long productId) {
+        for (JdbcTemplate replica : replicas) {
+            deleteDependents(replica, productId);
+        }
+    }
+
+    public void deleteProduct(Long id) {
+        forEachReplica(replica -> {
+            // Un stock créé entre-temps sur ce shard ne doit pas bloquer la suppression
+            deleteDependents(replica, id);
+            replica.update("DELETE FROM product WHERE id = ?", id);
+        });
+    }
+
+    public void replicateStore(Store store) {
+        forEachReplica(replica -> upsertStore(replica, store.getId(), store.getCode(), store.getName()));
+    }
+
+    public void markRepairNeeded() {
+        repairNeeded.set(true);
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.sharding.repair-interval-ms:10000}")
+    public void repairIfNeeded() {
+        if (repairNeeded.compareAndSet(true, false)) {
+            repair();
+        }
+    }
+
+    /**
+     * Réaligne chaque shard secondaire sur le principal : suppression des produits absents
+     * du principal (avec leurs stocks et réservations), puis recopie des magasins et produits.
+     */
+    public void repair() {
+        List<Map<String, Object>> stores = primary.queryForList("SELECT id, code, name FROM store");
+        List<Map<String, Object>> products = primary.queryForList(
+                "SELECT id, name, description, price, sku, version FROM product");
+        List<Long> productIds = products.stream().map(p -> ((Number) p.get("id")).longValue()).toList();
+
+        forEachReplica(replica -> {
+            List<Long> orphans = replica.queryForList("SELECT id FROM product", Long.class).stream()
+                    .filter(id -> !productIds.contains(id))
+                    .toList();
+            for (Long orphan : orphans) {
+                deleteDependents(replica, orphan);
+                replica.update("DELETE FROM product WHERE id = ?", orphan);
+            }
+            for (Map<String, Object> s : stores) {
+                upsertStore(replica, ((Number) s.get("id")).intValue(), (String) s.get("code"), (String) s.get("name"));
+            }
+            for (Map<String, Object> p : products) {
+                Number version = (Number) p.get("version");
+                upsertProduct(replica, ((Number) p.get("id")).longValue(), (String) p.get("name"),
+                        (String) p.get("description"), p.get("price"), (String) p.get("sku"),
+                        version != null ? version.longValue() : 0L);
+            }
+        });
+    }
+
+    private void forEachReplica(Consumer<JdbcTemplate> write) {
+        for (JdbcTemplate replica : replicas) {
+            try {
+                write.accept(replica);
+            } catch (DataAccessException e) {
+                logger.warn("Échec de réplication vers un shard secondaire, réparation planifiée", e);
+                repairNeeded.set(true);
+            }
+        }
+    }
+
+    private static void deleteDependents(JdbcTemplate replica, Long productId) {
+        replica.update("DELETE FROM reservation WHERE product_id = ?", productId);
+        replica.update("DELETE FROM stock WHERE product_id = ?", productId);
+    }
+
+    private static void upsertProduct(JdbcTemplate replica, Long id, String name, String description,
+                                      Object price, String sku, long version) {
+        // La condition sur la version évite qu'une réplication en retard écrase une plus récente
+        int updated = replica.update(
+                "UPDATE product SET name = ?, description = ?, price = ?, sku = ?, version = ? "
+                        + "WHERE id = ? AND (version IS NULL OR version < ?)",
+                name, description, price, sku, version, id, version);
+        if (updated == 0) {
+            insertIfAbsent(replica, "product", id,
+                    "INSERT INTO product (id, name, description, price, sku, version) VALUES (?, ?, ?, ?, ?, ?)",
+                    id, name, description, price, sku, version);
+        }
+    }
+
+    private static void upsertStore(JdbcTemplate replica, Integer id, String code, String name) {
+        int updated = replica.update("UPDATE store SET code = ?, name = ? WHERE id = ?", code, name, id);
+        if (updated == 0) {
+            insertIfAbsent(replica, "store", id,
+                    "INSERT INTO store (id, code, name) VALUES (?, ?, ?)", id, code, name);
+        }
+    }
+
+    private static void insertIfAbsent(JdbcTemplate replica, String table, Object id, String insert, Object... args) {
+        Integer count = replica.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE id = ?", Integer.class, id);
+        if (count != null && count > 0) {
+            return;
+        }
+        try {
+            replica.update(insert, args);
+        } catch (DuplicateKeyException e) {
+            // Insérée entre-temps par une réplication concurrente
+        }
+    }
+}
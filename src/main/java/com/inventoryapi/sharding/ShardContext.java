@@ -0,0 +1,46 @@
+package com.inventoryapi.sharding;
+
+import java.util.function.Supplier;
+
+/**
+ * Shard courant du thread, lu par {@link ShardRoutingDataSource} à chaque
+ * acquisition de connexion. Il doit être positionné avant l'ouverture de la
+ * transaction : une transaction reste sur la connexion qu'elle a obtenue.
+ */
+public final class ShardContext {
+
+    public static final int PRIMARY = 0;
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    /**
+     * Shard courant, ou null (shard principal)
+     */
+    public static Integer current() {
+        return CURRENT.get();
+    }
+
+    public static <T> T callOn(int shard, Supplier<T> action) {
+        Integer previous = CURRENT.get();
+        CURRENT.set(shard);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    public static void runOn(int shard, Runnable action) {
+        callOn(shard, () -> {
+            action.run();
+            return null;
+        });
+    }
+}
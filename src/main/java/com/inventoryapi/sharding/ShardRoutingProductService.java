@@ -0,0 +1,137 @@
+package com.inventoryapi.sharding;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import com.inventoryapi.models.Product;
+import com.inventoryapi.services.ProductService;
+
+/**
+ * Aiguille chaque appel vers le shard du magasin concerné avant l'ouverture
+ * de la transaction du service métier. Les produits sont écrits sur le shard
+ * principal puis répliqués ; les requêtes multi-magasins sont éclatées par shard
+ * et exécutées en parallèle (scatter-gather).
+ */
+public class ShardRoutingProductService implements ProductService {
+
+    private final ProductService delegate;
+    private final ConsistentHashShardRing shardRing;
+    private final ReferenceDataReplicator replicator;
+    private final ExecutorService scatterExecutor;
+
+    public ShardRoutingProductService(ProductService delegate, ConsistentHashShardRing shardRing,
+                                      ReferenceDataReplicator replicator, ExecutorService scatterExecutor) {
+        this.delegate = delegate;
+        this.shardRing = shardRing;
+        this.replicator = replicator;
+        this.scatterExecutor = scatterExecutor;
+    }
+
+    @Override
+    public List<Product> getAllProducts() {
+        return ShardContext.callOn(ShardContext.PRIMARY, delegate::getAllProducts);
+    }
+
+    @Override
+    public String getCatalogVersion() {
+        return ShardContext.callOn(ShardContext.PRIMARY, delegate::getCatalogVersion);
+    }
+
+    @Override
+    public Optional<Product> getProductById(Long id) {
+        return ShardContext.callOn(ShardContext.PRIMARY, () -> delegate.getProductById(id));
+    }
+
+    /**
+     * Un échec de réplication ne remet pas en cause l'écriture validée sur le principal :
+     * le réplicateur planifie une réparation des shards secondaires.
+     */
+    @Override
+    public Product saveProduct(Product product) {
+        Product saved = ShardContext.callOn(ShardContext.PRIMARY, () -> delegate.saveProduct(product));
+        replicator.replicateProduct(saved);
+        return saved;
+    }
+
+    /**
+     * Les stocks et réservations des shards secondaires sont supprimés avant le commit sur le principal :
+     * un échec à cette étape laisse le produit intact partout. La suppression des copies du produit
+     * vient ensuite ; en cas d'échec, la réparation du réplicateur la rejoue.
+     */
+    @Override
+    public void deleteProduct(Long id) {
+        replicator.deleteDependents(id);
+        ShardContext.runOn(ShardContext.PRIMARY, () -> delegate.deleteProduct(id));
+        replicator.deleteProduct(id);
+    }
+
+    @Override
+    public boolean checkStockAvailability(String storeId, String sku, int quantity) {
+        return ShardContext.callOn(shardRing.shardFor(storeId),
+                () -> delegate.checkStockAvailability(storeId, sku, quantity));
+    }
+
+    @Override
+    public Map<String, Boolean> checkStockAvailability(List<String> storeIds, String sku, int quantity) {
+        Map<Integer, List<String>> storesByShard = new LinkedHashMap<>();
+        for (String storeId : storeIds) {
+            storesByShard.computeIfAbsent(shardRing.shardFor(storeId), shard -> new ArrayList<>()).add(storeId);
+        }
+
+        List<Future<Map<String, Boolean>>> partials = new ArrayList<>();
+        for (Map.Entry<Integer, List<String>> entry : storesByShard.entrySet()) {
+            partials.add(scatterExecutor.submit(() -> ShardContext.callOn(entry.getKey(),
+                    () -> delegate.checkStockAvailability(entry.getValue(), sku, quantity))));
+        }
+
+        Map<String, Boolean> gathered = new LinkedHashMap<>();
+        for (Future<Map<String, Boolean>> partial : partials) {
+            gathered.putAll(await(partial));
+        }
+
+        // Réponse dans l'ordre des magasins demandés
+        Map<String, Boolean> availability = new LinkedHashMap<>();
+        for (String storeId : storeIds) {
+            availability.put(storeId, gathered.get(storeId));
+        }
+        return availability;
+    }
+
+    @Override
+    public boolean updateStock(String storeId, String sku, int quantity) {
+        return ShardContext.callOn(shardRing.shardFor(storeId),
+                () -> delegate.updateStock(storeId, sku, quantity));
+    }
+
+    @Override
+    public boolean updateReorderThreshold(String storeId, String sku, Integer threshold) {
+        return ShardContext.callOn(shardRing.shardFor(storeId),
+                () -> delegate.updateReorderThreshold(storeId, sku, threshold));
+    }
+
+    @Override
+    public String reserveProduct(String storeId, String sku, int quantity) {
+        return ShardContext.callOn(shardRing.shardFor(storeId),
+                () -> delegate.reserveProduct(storeId, sku, quantity));
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Requête multi-shards interrompue", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.inventoryapi.sharding;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+/**
+ * Applique aux shards secondaires le script de schéma généré par Hibernate pour le shard principal
+ */
+public class ShardSchemaInitializer implements InitializingBean {
+
+    private final Path schemaScript;
+    private final List<DataSource> replicas;
+
+    public ShardSchemaInitializer(Path schemaScript, List<DataSource> replicas) {
+        this.schemaScript = schemaScript;
+        this.replicas = replicas;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws IOException {
+        try {
+            if (!replicas.isEmpty()) {
+                ResourceDatabasePopulator populator = new ResourceDatabasePopulator(new FileSystemResource(schemaScript));
+                replicas.forEach(populator::execute);
+            }
+        } finally {
+            Files.deleteIfExists(schemaScript);
+        }
+    }
+}
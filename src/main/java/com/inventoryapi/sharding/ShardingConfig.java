@@ -0,0 +1,168 @@
+package com.inventoryapi.sharding;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.sql.DataSource;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.tool.schema.Action;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import com.inventoryapi.services.ProductService;
+import com.inventoryapi.services.ProductServiceImpl;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Partitionnement des stocks et réservations par magasin sur plusieurs bases.
+ * Actif avec {@code inventory.sharding.enabled=true} (voir le profil {@code sharded}).
+ *
+ * Le schéma créé par Hibernate sur le shard principal est rejoué sur les autres shards ;
+ * les produits et magasins y sont répliqués par {@link ReferenceDataReplicator}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "inventory.sharding", name = "enabled", havingValue = "true")
+public class ShardingConfig {
+
+    private final Path schemaScript;
+
+    public ShardingConfig() throws IOException {
+        this.schemaScript = Files.createTempFile("inventory-shard-schema", ".sql");
+        Files.delete(this.schemaScript);
+    }
+
+    @Bean(destroyMethod = "close")
+    public ShardDataSources shardDataSources(ShardingProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        if (properties.getShards().isEmpty()) {
+            throw new IllegalStateException("inventory.sharding.shards doit déclarer au moins un shard");
+        }
+
+        List<HikariDataSource> pools = new ArrayList<>();
+        for (int i = 0; i < properties.getShards().size(); i++) {
+            ShardingProperties.Shard shard = properties.getShards().get(i);
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("shard-" + shardName(shard, i));
+            pool.setJdbcUrl(shard.getUrl());
+            pool.setUsername(shard.getUsername());
+            pool.setPassword(shard.getPassword());
+            pool.setMaximumPoolSize(shard.getMaximumPoolSize());
+            // Les temps d'attente de chaque pool alimentent le délestage
+            meterRegistry.ifAvailable(registry -> pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+            pools.add(pool);
+        }
+        return new ShardDataSources(pools);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardDataSources shardDataSources) {
+        Map<Object, Object> targets = new HashMap<>();
+        List<? extends DataSource> shards = shardDataSources.getAll();
+        for (int i = 0; i < shards.size(); i++) {
+            targets.put(i, shards.get(i));
+        }
+
+        ShardRoutingDataSource routing = new ShardRoutingDataSource();
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(shards.get(ShardContext.PRIMARY));
+        routing.afterPropertiesSet();
+        return routing;
+    }
+
+    @Bean
+    public ConsistentHashShardRing shardRing(ShardingProperties properties) {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < properties.getShards().size(); i++) {
+            names.add(shardName(properties.getShards().get(i), i));
+        }
+        return new ConsistentHashShardRing(names, properties.getVirtualNodes());
+    }
+
+    @Bean
+    public ReferenceDataReplicator referenceDataReplicator(ShardDataSources shardDataSources) {
+        List<? extends DataSource> shards = shardDataSources.getAll();
+        return new ReferenceDataReplicator(shards.get(ShardContext.PRIMARY),
+                new ArrayList<>(shards.subList(1, shards.size())));
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService shardScatterExecutor(ShardingProperties properties) {
+        return Executors.newFixedThreadPool(properties.getScatterThreads());
+    }
+
+    @Bean
+    @Primary
+    public ProductService shardRoutingProductService(ProductServiceImpl delegate, ConsistentHashShardRing shardRing,
+                                                     ReferenceDataReplicator replicator,
+                                                     ExecutorService shardScatterExecutor) {
+        return new ShardRoutingProductService(delegate, shardRing, replicator, shardScatterExecutor);
+    }
+
+    /**
+     * Demande à Hibernate d'écrire le script de création du schéma en plus de l'appliquer au shard principal
+     */
+    @Bean
+    public HibernatePropertiesCustomizer shardSchemaScriptCustomizer() {
+        return properties -> {
+            // Dès qu'une action de script est définie, Hibernate ignore hbm2ddl.auto : l'action base est reportée
+            Object ddlAuto = properties.get(AvailableSettings.HBM2DDL_AUTO);
+            if (ddlAuto != null) {
+                properties.put(AvailableSettings.JAKARTA_HBM2DDL_DATABASE_ACTION, Action.interpretHbm2ddlSetting(ddlAuto));
+            }
+            properties.put(AvailableSettings.JAKARTA_HBM2DDL_SCRIPTS_ACTION, "create");
+            properties.put(AvailableSettings.JAKARTA_HBM2DDL_SCRIPTS_CREATE_TARGET, schemaScript.toString());
+            properties.put(AvailableSettings.HBM2DDL_DELIMITER, ";");
+        };
+    }
+
+    /**
+     * Rejoue le script de schéma sur les shards secondaires une fois Hibernate initialisé
+     */
+    @Bean
+    public ShardSchemaInitializer shardSchemaInitializer(EntityManagerFactory entityManagerFactory,
+                                                         ShardDataSources shardDataSources) {
+        List<? extends DataSource> shards = shardDataSources.getAll();
+        return new ShardSchemaInitializer(schemaScript, new ArrayList<>(shards.subList(1, shards.size())));
+    }
+
+    private static String shardName(ShardingProperties.Shard shard, int index) {
+        return shard.getName() != null ? shard.getName() : String.valueOf(index);
+    }
+
+    /**
+     * Pools de connexions des shards, dans l'ordre de la configuration
+     */
+    public static class ShardDataSources implements AutoCloseable {
+
+        private final List<HikariDataSource> pools;
+
+        public ShardDataSources(List<HikariDataSource> pools) {
+            this.pools = pools;
+        }
+
+        public List<HikariDataSource> getAll() {
+            return pools;
+        }
+
+        @Override
+        public void close() {
+            pools.forEach(HikariDataSource::close);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.inventoryapi.sharding;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration du partitionnement par magasin (préfixe {@code inventory.sharding})
+ */
+@Component
+@ConfigurationProperties(prefix = "inventory.sharding")
+public class ShardingProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * Nœuds virtuels par shard sur l'anneau de hachage
+     */
+    private int virtualNodes = 128;
+
+    /**
+     * Threads utilisés pour les requêtes multi-magasins (scatter-gather)
+     */
+    private int scatterThreads = 8;
+
+    /**
+     * Le premier shard est le shard principal : il porte la référence des produits et magasins
+     */
+    private List<Shard> shards = new ArrayList<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getVirtualNodes() {
+        return virtualNodes;
+    }
+
+    public void setVirtualNodes(int virtualNodes) {
+        this.virtualNodes = virtualNodes;
+    }
+
+    public int getScatterThreads() {
+        return scatterThreads;
+    }
+
+    public void setScatterThreads(int scatterThreads) {
+        this.scatterThreads = scatterThreads;
+    }
+
+    public List<Shard> getShards() {
+        return shards;
+    }
+
+    public void setShards(List<Shard> shards) {
+        this.shards = shards;
+    }
+
+    public static class Shard {
+
+        /**
+         * Nom stable du shard, qui fixe sa position sur l'anneau
+         */
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public void setPassword(String password) {
+            this.password = password;
+        }
+
+        public int getMaximumPoolSize() {
+            return maximumPoolSize;
+        }
+
+        public void setMaximumPoolSize(int maximumPoolSize) {
+            this.maximumPoolSize = maximumPoolSize;
+        }
+    }
+}
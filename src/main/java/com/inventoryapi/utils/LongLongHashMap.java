@@ -0,0 +1,185 @@
+package com.inventoryapi.utils;
+
+import java.util.Arrays;
+
+/**
+ * Table de hachage à adressage ouvert (sondage linéaire) associant des clés
+ * {@code long} à des valeurs {@code long}, sans aucun objet boxé par entrée.
+ * Deux tableaux primitifs suffisent : environ 16 octets par case, contre plus
+ * de 80 octets par entrée pour un {@code HashMap<Key, Long>}.
+ *
+ * La clé {@code 0} est réservée pour marquer les cases libres.
+ * Cette classe n'est pas thread-safe : la synchronisation est à la charge de l'appelant.
+ */
+public class LongLongHashMap {
+
+    private static final long FREE_KEY = 0L;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private long[] keys;
+    private long[] values;
+    private int size;
+    private int mask;
+    private int threshold;
+
+    public LongLongHashMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public LongLongHashMap(int expectedSize) {
+        int capacity = tableSizeFor(Math.max(expectedSize, 2));
+        allocate(capacity);
+    }
+
+    /**
+     * Retourne la valeur associée à la clé, ou {@code defaultValue} si absente
+     */
+    public long get(long key, long defaultValue) {
+        checkKey(key);
+        int slot = indexOf(key);
+        while (keys[slot] != FREE_KEY) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return defaultValue;
+    }
+
+    public boolean containsKey(long key) {
+        checkKey(key);
+        int slot = indexOf(key);
+        while (keys[slot] != FREE_KEY) {
+            if (keys[slot] == key) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Associe la valeur à la clé et retourne l'ancienne valeur, ou {@code defaultValue}
+     */
+    public long put(long key, long value, long defaultValue) {
+        checkKey(key);
+        int slot = indexOf(key);
+        while (keys[slot] != FREE_KEY) {
+            if (keys[slot] == key) {
+                long previous = values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > threshold) {
+            rehash(keys.length << 1);
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Supprime la clé et retourne sa valeur, ou {@code defaultValue} si absente.
+     * Les entrées suivantes du même groupe sont recompactées (pas de pierre tombale).
+     */
+    public long remove(long key, long defaultValue) {
+        checkKey(key);
+        int slot = indexOf(key);
+        while (keys[slot] != FREE_KEY) {
+            if (keys[slot] == key) {
+                long previous = values[slot];
+                shiftKeys(slot);
+                size--;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return defaultValue;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, FREE_KEY);
+        size = 0;
+    }
+
+    private void shiftKeys(int slot) {
+        int last;
+        while (true) {
+            last = slot;
+            slot = (slot + 1) & mask;
+            while (true) {
+                long current = keys[slot];
+                if (current == FREE_KEY) {
+                    keys[last] = FREE_KEY;
+                    return;
+                }
+                int ideal = indexOf(current);
+                // On ne déplace l'entrée que si sa case idéale n'est pas entre last (exclu) et slot (inclus)
+                if (last <= slot ? (last >= ideal || ideal > slot) : (last >= ideal && ideal > slot)) {
+                    break;
+                }
+                slot = (slot + 1) & mask;
+            }
+            keys[last] = keys[slot];
+            values[last] = values[slot];
+        }
+    }
+
+    private void rehash(int newCapacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(newCapacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key != FREE_KEY) {
+                int slot = indexOf(key);
+                while (keys[slot] != FREE_KEY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+        // Facteur de charge 2/3 : bon compromis mémoire / longueur de sondage
+        threshold = (int) (capacity * 2L / 3);
+    }
+
+    private int indexOf(long key) {
+        // Mélange final de MurmurHash3 pour répartir les clés composites (bits de poids fort)
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h & mask;
+    }
+
+    private static void checkKey(long key) {
+        if (key == FREE_KEY) {
+            throw new IllegalArgumentException("La clé 0 est réservée");
+        }
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        long needed = (long) Math.ceil(expectedSize * 1.5);
+        int capacity = Integer.highestOneBit((int) Math.min(needed, 1 << 30));
+        return capacity < needed ? capacity << 1 : capacity;
+    }
+}
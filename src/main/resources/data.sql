@@ -1,19 +1,31 @@
 -- data.sql
 -- Insertion de quelques produits de test
-INSERT INTO product (id, name, description, price, sku) VALUES 
-(1, 'T-shirt Homme', 'T-shirt en coton bio', 19.99, 'TSH-001'),
-(2, 'Jeans Slim Femme', 'Jeans slim elastique', 49.99, 'JSF-002'),
-(3, 'Veste en Cuir', 'Veste en cuir véritable', 199.99, 'VEC-003');
+INSERT INTO product (id, name, description, price, sku, version) VALUES 
+(1, 'T-shirt Homme', 'T-shirt en coton bio', 19.99, 'TSH-001', 0),
+(2, 'Jeans Slim Femme', 'Jeans slim elastique', 49.99, 'JSF-002', 0),
+(3, 'Veste en Cuir', 'Veste en cuir véritable', 199.99, 'VEC-003', 0);
+
+-- Insertion des magasins (table de référence, clé entière compacte)
+INSERT INTO store (id, code, name) VALUES
+(1, 'STORE-001', 'Magasin 1'),
+(2, 'STORE-002', 'Magasin 2');
 
 -- Insertion de stocks pour différents magasins
-INSERT INTO stock (id, product_id, store_id, quantity) VALUES 
-(1, 1, 'STORE-001', 50),  -- 50 T-shirts dans le magasin 1
-(2, 1, 'STORE-002', 30),  -- 30 T-shirts dans le magasin 2
-(3, 2, 'STORE-001', 20),  -- 20 Jeans dans le magasin 1
-(4, 2, 'STORE-002', 25),  -- 25 Jeans dans le magasin 2
-(5, 3, 'STORE-001', 10),  -- 10 Vestes dans le magasin 1
-(6, 3, 'STORE-002', 5);   -- 5 Vestes dans le magasin 2
+-- avec un seuil de réapprovisionnement par (produit, magasin)
+INSERT INTO stock (id, product_id, store_id, quantity, reorder_threshold, below_threshold) VALUES 
+(1, 1, 1, 50, 10, false),  -- 50 T-shirts dans le magasin 1
+(2, 1, 2, 30, 10, false),  -- 30 T-shirts dans le magasin 2
+(3, 2, 1, 20, 5, false),   -- 20 Jeans dans le magasin 1
+(4, 2, 2, 25, 5, false),   -- 25 Jeans dans le magasin 2
+(5, 3, 1, 10, 3, false),   -- 10 Vestes dans le magasin 1
+(6, 3, 2, 5, 3, false);    -- 5 Vestes dans le magasin 2
 
 -- Insertion d'une réservation active
 INSERT INTO reservation (id, product_id, store_id, quantity, created_at, expires_at, reservation_code, active)
-VALUES (1, 3, 'STORE-001', 2, CURRENT_TIMESTAMP(), DATEADD('DAY', 1, CURRENT_TIMESTAMP()), 'RES-20250215-001', true);
+VALUES (1, 3, 1, 2, CURRENT_TIMESTAMP(), DATEADD('DAY', 1, CURRENT_TIMESTAMP()), 'RES-20250215-001', true);
+
+-- Les lignes créées via l'API ne doivent pas réutiliser les identifiants ci-dessus
+ALTER TABLE product ALTER COLUMN id RESTART WITH 4;
+ALTER TABLE store ALTER COLUMN id RESTART WITH 3;
+ALTER TABLE stock ALTER COLUMN id RESTART WITH 7;
+ALTER TABLE reservation ALTER COLUMN id RESTART WITH 2;
\ No newline at end of file
@@ -0,0 +1,77 @@
+package com.inventoryapi.alerts;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.scheduling.TaskScheduler;
+
+public class LowStockAlertDispatcherTest {
+
+    private List<List<LowStockAlert>> deliveredBatches;
+
+    private StaticListableBeanFactory beanFactory;
+
+    private TaskScheduler taskScheduler;
+
+    @BeforeEach
+    void setUp() {
+        deliveredBatches = new ArrayList<>();
+        beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("testSink", (LowStockAlertSink) alerts -> deliveredBatches.add(alerts));
+        taskScheduler = mock(TaskScheduler.class);
+    }
+
+    @Test
+    @DisplayName("Test dédoublonnage - Une seule alerte par (produit, magasin) dans un lot")
+    void testAlertsAreDeduplicatedPerBatch() {
+        // Arrange
+        LowStockAlertDispatcher dispatcher = new LowStockAlertDispatcher(
+                beanFactory.getBeanProvider(LowStockAlertSink.class), taskScheduler, 100);
+
+        // Act
+        dispatcher.onLowStock(new LowStockAlert(1L, "TSH-001", 1, "STORE-001", 4, 5));
+        dispatcher.onLowStock(new LowStockAlert(1L, "TSH-001", 1, "STORE-001", 2, 5));
+        dispatcher.onLowStock(new LowStockAlert(1L, "TSH-001", 2, "STORE-002", 1, 5));
+        dispatcher.flush();
+
+        // Assert
+        assertEquals(1, deliveredBatches.size());
+        List<LowStockAlert> batch = deliveredBatches.get(0);
+        assertEquals(2, batch.size());
+        assertEquals(2, batch.get(0).getAvailableQuantity());
+        assertEquals(0, dispatcher.getPendingCount());
+    }
+
+    @Test
+    @DisplayName("Test lot - Lot plein : livraison confiée au planificateur, pas au thread appelant")
+    void testFullBatchIsHandedToScheduler() {
+        // Arrange
+        LowStockAlertDispatcher dispatcher = new LowStockAlertDispatcher(
+                beanFactory.getBeanProvider(LowStockAlertSink.class), taskScheduler, 2);
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+
+        // Act
+        dispatcher.onLowStock(new LowStockAlert(1L, "TSH-001", 1, "STORE-001", 4, 5));
+        dispatcher.onLowStock(new LowStockAlert(2L, "JSF-002", 1, "STORE-001", 1, 5));
+        dispatcher.onLowStock(new LowStockAlert(3L, "VST-003", 1, "STORE-001", 0, 5));
+
+        // Assert
+        assertTrue(deliveredBatches.isEmpty());
+        verify(taskScheduler, times(1)).schedule(task.capture(), any(Instant.class));
+        task.getValue().run();
+        assertEquals(1, deliveredBatches.size());
+        assertEquals(3, deliveredBatches.get(0).size());
+    }
+}
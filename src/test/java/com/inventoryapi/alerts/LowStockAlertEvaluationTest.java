@@ -0,0 +1,167 @@
+package com.inventoryapi.alerts;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.inventoryapi.models.Product;
+import com.inventoryapi.models.Stock;
+import com.inventoryapi.repositories.StockRepository;
+import com.inventoryapi.services.ProductService;
+
+/**
+ * Évaluation incrémentale du seuil par le service, alertes livrées à un sink de capture
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.url=jdbc:h2:mem:low_stock_alerts;DB_CLOSE_DELAY=-1",
+        "spring.sql.init.mode=never",
+        "spring.jpa.show-sql=false",
+        "inventory.alerts.batch-size=1000",
+        "inventory.alerts.flush-interval-ms=3600000"
+})
+public class LowStockAlertEvaluationTest {
+
+    private static final String STORE = "STORE-ALERT";
+
+    @TestConfiguration
+    static class CapturingSinkConfiguration {
+
+        @Bean
+        CapturingSink capturingSink() {
+            return new CapturingSink();
+        }
+    }
+
+    static class CapturingSink implements LowStockAlertSink {
+
+        final List<LowStockAlert> delivered = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void deliver(List<LowStockAlert> alerts) {
+            delivered.addAll(alerts);
+        }
+    }
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private StockRepository stockRepository;
+
+    @Autowired
+    private LowStockAlertDispatcher dispatcher;
+
+    @Autowired
+    private CapturingSink sink;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher.flush();
+        sink.delivered.clear();
+    }
+
+    @Test
+    @DisplayName("Test seuil - Une seule alerte au franchissement, aucune pour les baisses suivantes")
+    void testCrossingEmitsExactlyOnce() {
+        // Arrange
+        String sku = stockWithThreshold("ALR-001", 10, 5);
+
+        // Act
+        productService.updateStock(STORE, sku, 4);
+        productService.updateStock(STORE, sku, 3);
+        assertNotNull(productService.reserveProduct(STORE, sku, 1));
+        dispatcher.flush();
+
+        // Assert
+        assertEquals(1, sink.delivered.size());
+        assertEquals(sku, sink.delivered.get(0).getSku());
+        assertEquals(4, sink.delivered.get(0).getAvailableQuantity());
+        assertTrue(stock(sku).isBelowThreshold());
+    }
+
+    @Test
+    @DisplayName("Test seuil - Le retour au-dessus du seuil réarme l'alerte")
+    void testGoingAboveThresholdRearms() {
+        // Arrange
+        String sku = stockWithThreshold("ALR-002", 10, 5);
+        productService.updateStock(STORE, sku, 2);
+        // Livraison séparée : dans un même lot, seule la dernière alerte d'une ligne est gardée
+        dispatcher.flush();
+
+        // Act
+        productService.updateStock(STORE, sku, 8);
+        boolean rearmed = !stock(sku).isBelowThreshold();
+        productService.updateStock(STORE, sku, 1);
+        dispatcher.flush();
+
+        // Assert
+        assertTrue(rearmed);
+        assertEquals(2, sink.delivered.size());
+        assertEquals(1, sink.delivered.get(1).getAvailableQuantity());
+    }
+
+    @Test
+    @DisplayName("Test seuil - Supprimer le seuil réinitialise l'état sous le seuil")
+    void testClearingThresholdResetsState() {
+        // Arrange
+        String sku = stockWithThreshold("ALR-003", 10, 5);
+        productService.updateStock(STORE, sku, 2);
+        assertTrue(stock(sku).isBelowThreshold());
+
+        // Act
+        productService.updateReorderThreshold(STORE, sku, null);
+        productService.updateStock(STORE, sku, 1);
+
+        // Assert
+        Stock stock = stock(sku);
+        assertFalse(stock.isBelowThreshold());
+        assertNull(stock.getReorderThreshold());
+        dispatcher.flush();
+        assertEquals(1, sink.delivered.size());
+    }
+
+    @Test
+    @DisplayName("Test seuil - Une transaction annulée n'émet aucune alerte")
+    void testRolledBackTransactionEmitsNothing() {
+        // Arrange
+        String sku = stockWithThreshold("ALR-004", 6, 5);
+
+        // Act
+        transactionTemplate.executeWithoutResult(status -> {
+            assertNotNull(productService.reserveProduct(STORE, sku, 3));
+            status.setRollbackOnly();
+        });
+        dispatcher.flush();
+
+        // Assert
+        assertTrue(sink.delivered.isEmpty());
+        assertFalse(stock(sku).isBelowThreshold());
+    }
+
+    private String stockWithThreshold(String sku, int quantity, int threshold) {
+        productService.saveProduct(new Product("Produit " + sku, "Produit avec seuil", 10.0, sku));
+        assertTrue(productService.updateStock(STORE, sku, quantity));
+        assertTrue(productService.updateReorderThreshold(STORE, sku, threshold));
+        return sku;
+    }
+
+    private Stock stock(String sku) {
+        return stockRepository.findAll().stream()
+                .filter(stock -> sku.equals(stock.getProduct().getSku()))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,126 @@
+package com.inventoryapi.analytics;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.inventoryapi.repositories.ReservationRepository;
+import com.inventoryapi.repositories.ReservationRepository.ReservedTotals;
+import com.inventoryapi.repositories.StockRepository;
+import com.inventoryapi.repositories.StockRepository.StockTotals;
+import com.inventoryapi.sharding.ConsistentHashShardRing;
+
+@ExtendWith(MockitoExtension.class)
+public class InventoryAnalyticsTest {
+
+    @Mock
+    private StockRepository stockRepository;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private InventoryAnalytics inventoryAnalytics;
+
+    @BeforeEach
+    void setUp() {
+        inventoryAnalytics = new InventoryAnalytics(stockRepository, reservationRepository,
+                new StaticListableBeanFactory().getBeanProvider(ConsistentHashShardRing.class),
+                transactionManager, 300_000);
+    }
+
+    @Test
+    @DisplayName("Test incrémental - Les variations de stock et de réservation mettent à jour les agrégats")
+    void testDeltasUpdateRollups() {
+        // Act
+        inventoryAnalytics.onInventoryDelta(new InventoryDelta(1L, "TSH-001", 1, "STORE-001", 50, 0, 19.99));
+        inventoryAnalytics.onInventoryDelta(new InventoryDelta(1L, "TSH-001", 2, "STORE-002", 30, 0, 19.99));
+        inventoryAnalytics.onInventoryDelta(new InventoryDelta(1L, "TSH-001", 1, "STORE-001", -10, 0, 19.99));
+        inventoryAnalytics.onInventoryDelta(new InventoryDelta(1L, "TSH-001", 1, "STORE-001", 0, 3, 19.99));
+
+        // Assert
+        InventoryRollup store = inventoryAnalytics.getStoreRollups().get(0);
+        assertEquals("STORE-001", store.getCode());
+        assertEquals(40, store.getTotalUnits());
+        assertEquals(3, store.getReservedUnits());
+        assertEquals(37, store.getAvailableUnits());
+        assertEquals(799.6, store.getStockValue());
+
+        InventoryRollup product = inventoryAnalytics.getProductRollups().get(0);
+        assertEquals(70, product.getTotalUnits());
+        assertEquals(1399.3, product.getStockValue());
+    }
+
+    @Test
+    @DisplayName("Test réconciliation - Les agrégats sont remplacés par les totaux de la base")
+    void testReconcileReplacesRollups() {
+        // Arrange
+        inventoryAnalytics.onInventoryDelta(new InventoryDelta(1L, "TSH-001", 1, "STORE-001", 999, 0, 19.99));
+        StockTotals storeTotals = stockTotals(1, "STORE-001", 50, 999.5);
+        StockTotals productTotals = stockTotals(1L, "TSH-001", 50, 999.5);
+        ReservedTotals reserved = mock(ReservedTotals.class);
+        when(reserved.getKey()).thenReturn(1);
+        when(reserved.getReserved()).thenReturn(2L);
+        when(stockRepository.sumByStore()).thenReturn(List.of(storeTotals));
+        when(stockRepository.sumByProduct()).thenReturn(List.of(productTotals));
+        when(reservationRepository.sumActiveByStore()).thenReturn(List.of(reserved));
+        when(reservationRepository.sumActiveByProduct()).thenReturn(List.of());
+
+        // Act
+        inventoryAnalytics.reconcile();
+
+        // Assert
+        InventoryRollup store = inventoryAnalytics.getStoreRollups().get(0);
+        assertEquals(50, store.getTotalUnits());
+        assertEquals(2, store.getReservedUnits());
+        assertEquals(999.5, store.getStockValue());
+        assertEquals(0, inventoryAnalytics.getProductRollups().get(0).getReservedUnits());
+    }
+
+    @Test
+    @DisplayName("Test réconciliation - Une variation reçue pendant la lecture est rejouée sur les nouveaux agrégats")
+    void testDeltaDuringReconcileIsReplayed() {
+        // Arrange
+        StockTotals storeTotals = stockTotals(1, "STORE-001", 50, 1000.0);
+        StockTotals productTotals = stockTotals(1L, "TSH-001", 50, 1000.0);
+        when(stockRepository.sumByStore()).thenAnswer(invocation -> {
+            // Validée après le début de l'instantané : absente des totaux lus
+            inventoryAnalytics.onInventoryDelta(new InventoryDelta(1L, "TSH-001", 1, "STORE-001", 5, 0, 20.0));
+            return List.of(storeTotals);
+        });
+        when(stockRepository.sumByProduct()).thenReturn(List.of(productTotals));
+        when(reservationRepository.sumActiveByStore()).thenReturn(List.of());
+        when(reservationRepository.sumActiveByProduct()).thenReturn(List.of());
+
+        // Act
+        inventoryAnalytics.reconcile();
+        inventoryAnalytics.onInventoryDelta(new InventoryDelta(1L, "TSH-001", 1, "STORE-001", 1, 0, 20.0));
+
+        // Assert
+        InventoryRollup store = inventoryAnalytics.getStoreRollups().get(0);
+        assertEquals(56, store.getTotalUnits());
+        assertEquals(1120.0, store.getStockValue());
+        assertEquals(56, inventoryAnalytics.getProductRollups().get(0).getTotalUnits());
+    }
+
+    private static StockTotals stockTotals(Number key, String code, long units, double value) {
+        StockTotals totals = mock(StockTotals.class);
+        when(totals.getKey()).thenReturn(key);
+        when(totals.getCode()).thenReturn(code);
+        when(totals.getUnits()).thenReturn(units);
+        when(totals.getStockValue()).thenReturn(value);
+        return totals;
+    }
+}
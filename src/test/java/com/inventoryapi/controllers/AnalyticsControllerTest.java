@@ -0,0 +1,64 @@
+package com.inventoryapi.controllers;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.inventoryapi.analytics.InventoryAnalytics;
+import com.inventoryapi.analytics.InventoryRollup;
+
+@ExtendWith(MockitoExtension.class)
+public class AnalyticsControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private InventoryAnalytics inventoryAnalytics;
+
+    @InjectMocks
+    private AnalyticsController analyticsController;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(analyticsController).build();
+    }
+
+    @Test
+    @DisplayName("Test GET /api/analytics/stores - Agrégats par magasin")
+    void testGetStoreRollups() throws Exception {
+        // Arrange
+        InventoryRollup rollup = mock(InventoryRollup.class);
+        when(rollup.getCode()).thenReturn("STORE-001");
+        when(rollup.getTotalUnits()).thenReturn(80L);
+        when(inventoryAnalytics.getStoreRollups()).thenReturn(Arrays.asList(rollup));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/analytics/stores"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].code").value("STORE-001"))
+                .andExpect(jsonPath("$[0].totalUnits").value(80));
+    }
+
+    @Test
+    @DisplayName("Test POST /api/analytics/reconcile - Réconciliation planifiée, sans parcours sur le thread de requête")
+    void testReconcile() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/analytics/reconcile"))
+                .andExpect(status().isAccepted());
+
+        verify(inventoryAnalytics, times(1)).markStale();
+        verify(inventoryAnalytics, never()).reconcile();
+    }
+}
@@ -5,6 +5,9 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -20,6 +23,7 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.inventoryapi.models.Product;
+import com.inventoryapi.models.Store;
 import com.inventoryapi.services.ProductService;
 
 @ExtendWith(MockitoExtension.class)
@@ -49,22 +53,42 @@ public class ProductControllerTest {
         testProduct.setDescription("Product for testing");
         testProduct.setPrice(19.99);
         testProduct.setSku("TP-001");
+        testProduct.setVersion(3L);
     }
 
     @Test
     @DisplayName("Test GET /api/products - Récupérer tous les produits")
     void testGetAllProducts() throws Exception {
         // Arrange
+        when(productService.getCatalogVersion())
+                .thenReturn("1-3-1");
         when(productService.getAllProducts())
                 .thenReturn(Arrays.asList(testProduct));
 
         // Act & Assert
         mockMvc.perform(get("/api/products"))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"catalog-1-3-1\""))
                 .andExpect(jsonPath("$[0].name").value("Test Product"))
                 .andExpect(jsonPath("$[0].sku").value("TP-001"));
     }
 
+    @Test
+    @DisplayName("Test GET /api/products - Catalogue inchangé (304 sans chargement des produits)")
+    void testGetAllProductsNotModified() throws Exception {
+        // Arrange
+        when(productService.getCatalogVersion())
+                .thenReturn("1-3-1");
+
+        // Act & Assert
+        mockMvc.perform(get("/api/products")
+                        .header("If-None-Match", "\"catalog-1-3-1\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(productService, never()).getAllProducts();
+    }
+
     @Test
     @DisplayName("Test GET /api/products/{id} - Récupérer un produit par ID")
     void testGetProductById() throws Exception {
@@ -75,10 +99,25 @@ public class ProductControllerTest {
         // Act & Assert
         mockMvc.perform(get("/api/products/1"))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"product-1-3\""))
                 .andExpect(jsonPath("$.name").value("Test Product"))
                 .andExpect(jsonPath("$.price").value(19.99));
     }
 
+    @Test
+    @DisplayName("Test GET /api/products/{id} - Produit inchangé (304)")
+    void testGetProductByIdNotModified() throws Exception {
+        // Arrange
+        when(productService.getProductById(1L))
+                .thenReturn(Optional.of(testProduct));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/products/1")
+                        .header("If-None-Match", "\"product-1-3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
     @Test
     @DisplayName("Test GET /api/products/{id} - Produit non trouvé")
     void testGetProductByIdNotFound() throws Exception {
@@ -159,6 +198,24 @@ public class ProductControllerTest {
                 .andExpect(content().string("true"));
     }
 
+    @Test
+    @DisplayName("Test GET /api/products/availability - Vérifier la disponibilité dans plusieurs magasins")
+    void testCheckProductAvailabilityInStores() throws Exception {
+        // Arrange
+        Map<String, Boolean> availability = new LinkedHashMap<>();
+        availability.put("STORE-001", true);
+        availability.put("STORE-002", false);
+        when(productService.checkStockAvailability(List.of("STORE-001", "STORE-002"), "TP-001", 5))
+                .thenReturn(availability);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/products/availability/TP-001/5")
+                        .param("stores", "STORE-001,STORE-002"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.STORE-001").value(true))
+                .andExpect(jsonPath("$.STORE-002").value(false));
+    }
+
     @Test
     @DisplayName("Test PUT /api/products/stock - Mettre à jour le stock d'un produit")
     void testUpdateProductStock() throws Exception {
@@ -172,6 +229,58 @@ public class ProductControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    @DisplayName("Test PUT /api/products/stock - Code magasin trop long refusé (400)")
+    void testUpdateProductStockRejectsLongStoreCode() throws Exception {
+        // Arrange
+        String storeId = "S".repeat(Store.CODE_MAX_LENGTH + 1);
+
+        // Act & Assert
+        mockMvc.perform(put("/api/products/stock/" + storeId + "/TP-001")
+                        .param("quantity", "60"))
+                .andExpect(status().isBadRequest());
+
+        verify(productService, never()).updateStock(anyString(), anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Test PUT /api/products/threshold - Définir le seuil de réapprovisionnement")
+    void testUpdateReorderThreshold() throws Exception {
+        // Arrange
+        when(productService.updateReorderThreshold("STORE-001", "TP-001", 10))
+                .thenReturn(true);
+
+        // Act & Assert
+        mockMvc.perform(put("/api/products/threshold/STORE-001/TP-001")
+                        .param("threshold", "10"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Test PUT /api/products/threshold - Seuil négatif ou absent refusé (400)")
+    void testUpdateReorderThresholdRejectsInvalidValues() throws Exception {
+        // Act & Assert
+        mockMvc.perform(put("/api/products/threshold/STORE-001/TP-001")
+                        .param("threshold", "-1"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(put("/api/products/threshold/STORE-001/TP-001"))
+                .andExpect(status().isBadRequest());
+
+        verify(productService, never()).updateReorderThreshold(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Test DELETE /api/products/threshold - Supprimer le seuil de réapprovisionnement")
+    void testDeleteReorderThreshold() throws Exception {
+        // Arrange
+        when(productService.updateReorderThreshold("STORE-001", "TP-001", null))
+                .thenReturn(true);
+
+        // Act & Assert
+        mockMvc.perform(delete("/api/products/threshold/STORE-001/TP-001"))
+                .andExpect(status().isNoContent());
+    }
+
     @Test
     @DisplayName("Test POST /api/products/reserve - Réserver un produit disponible")
     void testReserveProduct() throws Exception {
@@ -0,0 +1,128 @@
+package com.inventoryapi.loadtest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import com.inventoryapi.models.Product;
+
+/**
+ * Catalogue de test généré de façon déterministe à partir d'une graine : produits,
+ * une ligne de stock par couple (produit, magasin) et des réservations couvertes par le stock.
+ * Les premiers SKU sont les SKU « chauds », dotés d'un stock suffisant pour absorber les rafales.
+ */
+final class CatalogDataset {
+
+    static final int HOT_STOCK = 1_000_000;
+    static final int MAX_STOCK = 500;
+
+    /**
+     * Quantité pour un couple (magasin, SKU) : stock initial ou réservation
+     */
+    static final class Line {
+
+        final String storeId;
+        final String sku;
+        final int quantity;
+
+        Line(String storeId, String sku, int quantity) {
+            this.storeId = storeId;
+            this.sku = sku;
+            this.quantity = quantity;
+        }
+    }
+
+    private final List<Product> products;
+    private final List<String> storeIds;
+    private final List<Line> stock;
+    private final List<Line> reservations;
+    private final int hotSkus;
+
+    private CatalogDataset(List<Product> products, List<String> storeIds, List<Line> stock,
+                           List<Line> reservations, int hotSkus) {
+        this.products = Collections.unmodifiableList(products);
+        this.storeIds = Collections.unmodifiableList(storeIds);
+        this.stock = Collections.unmodifiableList(stock);
+        this.reservations = Collections.unmodifiableList(reservations);
+        this.hotSkus = hotSkus;
+    }
+
+    static CatalogDataset generate(LoadTestSettings settings) {
+        return generate(settings.seed, settings.products, settings.stores, settings.reservations, settings.hotSkus);
+    }
+
+    static CatalogDataset generate(long seed, int productCount, int storeCount, int reservationCount, int hotSkus) {
+        Random random = new Random(seed);
+
+        List<Product> products = new ArrayList<>(productCount);
+        for (int p = 0; p < productCount; p++) {
+            double price = (100 + random.nextInt(20_000)) / 100.0;
+            products.add(new Product("Produit " + p, "Produit de test de charge", price, sku(p)));
+        }
+
+        List<String> storeIds = new ArrayList<>(storeCount);
+        for (int s = 0; s < storeCount; s++) {
+            storeIds.add(storeId(s));
+        }
+
+        List<Line> stock = new ArrayList<>(productCount * storeCount);
+        int[][] available = new int[productCount][storeCount];
+        for (int p = 0; p < productCount; p++) {
+            for (int s = 0; s < storeCount; s++) {
+                int quantity = stockQuantity(p, hotSkus, random);
+                available[p][s] = quantity;
+                stock.add(new Line(storeIds.get(s), sku(p), quantity));
+            }
+        }
+
+        // Tirages rejetés quand le stock restant ne couvre pas la quantité ; nombre d'essais borné
+        List<Line> reservations = new ArrayList<>(reservationCount);
+        for (int attempt = 0; reservations.size() < reservationCount && attempt < reservationCount * 10; attempt++) {
+            int p = random.nextInt(productCount);
+            int s = random.nextInt(storeCount);
+            int quantity = 1 + random.nextInt(3);
+            if (available[p][s] >= quantity) {
+                available[p][s] -= quantity;
+                reservations.add(new Line(storeIds.get(s), sku(p), quantity));
+            }
+        }
+
+        return new CatalogDataset(products, storeIds, stock, reservations, Math.min(hotSkus, productCount));
+    }
+
+    /**
+     * Quantité de stock d'un produit : les SKU chauds sont toujours réapprovisionnés au maximum
+     */
+    static int stockQuantity(int productIndex, int hotSkus, Random random) {
+        return productIndex < hotSkus ? HOT_STOCK : random.nextInt(MAX_STOCK + 1);
+    }
+
+    static String sku(int index) {
+        return String.format("LT-%06d", index);
+    }
+
+    static String storeId(int index) {
+        return String.format("LT-STORE-%04d", index);
+    }
+
+    List<Product> getProducts() {
+        return products;
+    }
+
+    List<String> getStoreIds() {
+        return storeIds;
+    }
+
+    List<Line> getStock() {
+        return stock;
+    }
+
+    List<Line> getReservations() {
+        return reservations;
+    }
+
+    int getHotSkus() {
+        return hotSkus;
+    }
+}
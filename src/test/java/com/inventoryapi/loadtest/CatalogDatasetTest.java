@@ -0,0 +1,49 @@
+package com.inventoryapi.loadtest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class CatalogDatasetTest {
+
+    @Test
+    @DisplayName("Test génération - Même graine, même catalogue")
+    void testSameSeedSameDataset() {
+        // Act
+        CatalogDataset first = CatalogDataset.generate(7L, 50, 4, 100, 2);
+        CatalogDataset second = CatalogDataset.generate(7L, 50, 4, 100, 2);
+
+        // Assert
+        assertEquals(50 * 4, first.getStock().size());
+        assertEquals(100, first.getReservations().size());
+        for (int i = 0; i < first.getStock().size(); i++) {
+            assertEquals(first.getStock().get(i).quantity, second.getStock().get(i).quantity);
+        }
+        for (int i = 0; i < first.getReservations().size(); i++) {
+            assertEquals(first.getReservations().get(i).sku, second.getReservations().get(i).sku);
+            assertEquals(first.getReservations().get(i).storeId, second.getReservations().get(i).storeId);
+        }
+        assertEquals(first.getProducts().get(10).getPrice(), second.getProducts().get(10).getPrice());
+    }
+
+    @Test
+    @DisplayName("Test génération - Réservations couvertes par le stock, SKU chauds approvisionnés")
+    void testReservationsCoveredByStock() {
+        // Arrange
+        CatalogDataset dataset = CatalogDataset.generate(42L, 20, 3, 500, 1);
+        Map<String, Integer> remaining = new HashMap<>();
+        dataset.getStock().forEach(line -> remaining.put(line.storeId + "/" + line.sku, line.quantity));
+
+        // Act
+        dataset.getReservations().forEach(line -> remaining.merge(line.storeId + "/" + line.sku, -line.quantity, Integer::sum));
+
+        // Assert
+        assertTrue(remaining.values().stream().allMatch(quantity -> quantity >= 0));
+        assertEquals(CatalogDataset.HOT_STOCK, dataset.getStock().get(0).quantity);
+        assertEquals(CatalogDataset.sku(0), dataset.getStock().get(0).sku);
+    }
+}
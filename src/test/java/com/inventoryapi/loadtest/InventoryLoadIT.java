@@ -0,0 +1,328 @@
+package com.inventoryapi.loadtest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Test de charge de bout en bout : démarre l'archive empaquetée (H2 en mémoire, sans data.sql),
+ * charge un catalogue généré à partir d'une graine, puis exécute la charge mixte :
+ * vérifications de disponibilité, rafales de réservations sur les SKU chauds et flux de stock.
+ * Lancement : mvn -Ploadtest verify (paramètres -Dloadtest.*, voir LoadTestSettings)
+ */
+public class InventoryLoadIT {
+
+    static final String AVAILABILITY = "availability";
+    static final String RESERVATION = "reservation";
+    static final String STOCK_UPDATE = "stock-update";
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+    private static final int SEED_RETRIES = 5;
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private Process application;
+    private String baseUrl;
+
+    @BeforeEach
+    void startApplication() throws Exception {
+        if (settings.baseUrl != null) {
+            baseUrl = settings.baseUrl.replaceAll("/+$", "");
+            return;
+        }
+        assertTrue(settings.jar != null && Files.isRegularFile(settings.jar),
+                "Archive introuvable (" + settings.jar + ") : lancer mvn -Ploadtest verify ou définir -Dloadtest.baseUrl");
+
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(split(settings.jvmArgs));
+        command.addAll(List.of("-jar", settings.jar.toString(),
+                "--server.port=" + port,
+                "--spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+                "--spring.sql.init.mode=never",
+                "--spring.jpa.show-sql=false",
+                "--spring.h2.console.enabled=false"));
+        // Un seul client simule tous les utilisateurs : limites par client levées,
+        // délestage seulement sur demande (-Dloadtest.shedding=true)
+        for (String priority : new String[] {"read", "write", "reservation"}) {
+            command.add("--inventory.rate-limit." + priority + ".capacity=1000000");
+            command.add("--inventory.rate-limit." + priority + ".refill-per-second=1000000");
+        }
+        command.add("--inventory.rate-limit.shedding.enabled=" + settings.shedding);
+        command.addAll(split(settings.appArgs));
+
+        Path log = settings.report.toAbsolutePath().resolveSibling("application.log");
+        Files.createDirectories(log.getParent());
+        application = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        baseUrl = "http://localhost:" + port;
+        awaitHealthy(log);
+    }
+
+    @AfterEach
+    void stopApplication() throws InterruptedException {
+        if (application != null) {
+            application.destroy();
+            if (!application.waitFor(30, TimeUnit.SECONDS)) {
+                application.destroyForcibly();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Charge mixte - Débit, latences et taux d'erreur dans les limites de la référence")
+    void runMixedWorkload() throws Exception {
+        // Arrange
+        CatalogDataset dataset = CatalogDataset.generate(settings);
+        seed(dataset);
+
+        // Act
+        Map<String, LatencyRecorder> results = runWorkload(dataset);
+        LoadTestReport report = new LoadTestReport(settings, settings.durationSeconds, results);
+        report.writeTo(settings.report);
+        System.out.println(report.toJson().get("total") + " -> " + settings.report.toAbsolutePath());
+
+        // Assert
+        JsonNode baseline = settings.baseline != null ? LoadTestReport.read(settings.baseline) : null;
+        List<String> violations = report.violations(baseline, settings.tolerance, settings.maxErrorRate);
+        assertTrue(violations.isEmpty(), "Régressions :\n" + String.join("\n", violations));
+    }
+
+    /**
+     * Chargement du catalogue par l'API : produits, puis stocks, puis réservations
+     */
+    private void seed(CatalogDataset dataset) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(settings.workers);
+        try {
+            seedAll(pool, dataset.getProducts(), 201, product -> HttpRequest.newBuilder(uri("/api/products"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(MAPPER.writeValueAsString(product))));
+            seedAll(pool, dataset.getStock(), 200, line -> stockUpdate(line.storeId, line.sku, line.quantity));
+            seedAll(pool, dataset.getReservations(), 201, line -> reservation(line.storeId, line.sku, line.quantity));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private interface RequestFactory<T> {
+        HttpRequest.Builder create(T item) throws Exception;
+    }
+
+    private <T> void seedAll(ExecutorService pool, List<T> items, int expectedStatus, RequestFactory<T> factory)
+            throws Exception {
+        List<Future<Integer>> statuses = new ArrayList<>(items.size());
+        for (T item : items) {
+            HttpRequest request = factory.create(item).timeout(REQUEST_TIMEOUT).build();
+            statuses.add(pool.submit(() -> sendWithRetry(request)));
+        }
+        for (Future<Integer> status : statuses) {
+            int code = status.get();
+            assertEquals(expectedStatus, code, "Échec du chargement du catalogue");
+        }
+    }
+
+    /**
+     * Envoi avec nouvelle tentative sur 429 : le délestage peut se déclencher pendant le chargement
+     */
+    private int sendWithRetry(HttpRequest request) throws IOException, InterruptedException {
+        int status = 0;
+        for (int attempt = 0; attempt < SEED_RETRIES; attempt++) {
+            status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            if (status != 429) {
+                break;
+            }
+            Thread.sleep(100L << attempt);
+        }
+        return status;
+    }
+
+    /**
+     * Chaque worker tire ses opérations avec sa propre graine ; les parts de la charge mixte
+     * s'entendent en requêtes, une rafale ou un flux comptant burstSize ou feedSize requêtes
+     */
+    private Map<String, LatencyRecorder> runWorkload(CatalogDataset dataset) throws Exception {
+        double availabilityWeight = settings.availabilityShare;
+        double reservationWeight = settings.reservationShare / settings.burstSize;
+        double stockFeedWeight = settings.stockFeedShare / settings.feedSize;
+        double totalWeight = availabilityWeight + reservationWeight + stockFeedWeight;
+
+        long measureFrom = System.nanoTime() + TimeUnit.SECONDS.toNanos(settings.warmupSeconds);
+        long deadline = measureFrom + TimeUnit.SECONDS.toNanos(settings.durationSeconds);
+
+        ExecutorService pool = Executors.newFixedThreadPool(settings.workers);
+        List<Future<Map<String, LatencyRecorder>>> workers = new ArrayList<>();
+        for (int w = 0; w < settings.workers; w++) {
+            Random random = new Random(settings.seed + 1 + w);
+            workers.add(pool.submit(() -> {
+                Map<String, LatencyRecorder> warmup = newRecorders();
+                Map<String, LatencyRecorder> measured = newRecorders();
+                long now;
+                while ((now = System.nanoTime()) < deadline) {
+                    Map<String, LatencyRecorder> recorders = now >= measureFrom ? measured : warmup;
+                    double pick = random.nextDouble() * totalWeight;
+                    if (pick < availabilityWeight) {
+                        checkAvailability(dataset, random, recorders.get(AVAILABILITY));
+                    } else if (pick < availabilityWeight + reservationWeight) {
+                        reservationBurst(dataset, random, recorders.get(RESERVATION));
+                    } else {
+                        stockFeed(dataset, random, recorders.get(STOCK_UPDATE));
+                    }
+                }
+                return measured;
+            }));
+        }
+
+        Map<String, LatencyRecorder> results = newRecorders();
+        try {
+            for (Future<Map<String, LatencyRecorder>> worker : workers) {
+                worker.get().forEach((operation, recorder) -> results.get(operation).merge(recorder));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        return results;
+    }
+
+    private void checkAvailability(CatalogDataset dataset, Random random, LatencyRecorder recorder)
+            throws InterruptedException {
+        String storeId = dataset.getStoreIds().get(random.nextInt(dataset.getStoreIds().size()));
+        String sku = CatalogDataset.sku(random.nextInt(dataset.getProducts().size()));
+        HttpRequest request = HttpRequest.newBuilder(uri("/api/products/availability/" + storeId + "/" + sku + "/"
+                + (1 + random.nextInt(5)))).timeout(REQUEST_TIMEOUT).GET().build();
+        timed(request, recorder);
+    }
+
+    /**
+     * Rafale : burstSize réservations unitaires simultanées sur la même ligne d'un SKU chaud
+     */
+    private void reservationBurst(CatalogDataset dataset, Random random, LatencyRecorder recorder) {
+        String storeId = dataset.getStoreIds().get(random.nextInt(dataset.getStoreIds().size()));
+        String sku = CatalogDataset.sku(random.nextInt(dataset.getHotSkus()));
+        HttpRequest request = reservation(storeId, sku, 1).timeout(REQUEST_TIMEOUT).build();
+
+        List<CompletableFuture<long[]>> burst = new ArrayList<>(settings.burstSize);
+        for (int i = 0; i < settings.burstSize; i++) {
+            long start = System.nanoTime();
+            burst.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .handle((response, error) -> new long[] {
+                            System.nanoTime() - start,
+                            error == null ? response.statusCode() : LatencyRecorder.NO_RESPONSE}));
+        }
+        for (CompletableFuture<long[]> result : burst) {
+            long[] sample = result.join();
+            recorder.record(sample[0], (int) sample[1]);
+        }
+    }
+
+    /**
+     * Flux de stock : feedSize mises à jour consécutives pour un magasin, comme un import fournisseur
+     */
+    private void stockFeed(CatalogDataset dataset, Random random, LatencyRecorder recorder)
+            throws InterruptedException {
+        String storeId = dataset.getStoreIds().get(random.nextInt(dataset.getStoreIds().size()));
+        int products = dataset.getProducts().size();
+        int first = random.nextInt(products);
+        for (int i = 0; i < settings.feedSize; i++) {
+            int product = (first + i) % products;
+            int quantity = CatalogDataset.stockQuantity(product, dataset.getHotSkus(), random);
+            timed(stockUpdate(storeId, CatalogDataset.sku(product), quantity).timeout(REQUEST_TIMEOUT).build(),
+                    recorder);
+        }
+    }
+
+    private void timed(HttpRequest request, LatencyRecorder recorder) throws InterruptedException {
+        long start = System.nanoTime();
+        int status;
+        try {
+            status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            status = LatencyRecorder.NO_RESPONSE;
+        }
+        recorder.record(System.nanoTime() - start, status);
+    }
+
+    private HttpRequest.Builder stockUpdate(String storeId, String sku, int quantity) {
+        return HttpRequest.newBuilder(uri("/api/products/stock/" + storeId + "/" + sku + "?quantity=" + quantity))
+                .PUT(HttpRequest.BodyPublishers.noBody());
+    }
+
+    private HttpRequest.Builder reservation(String storeId, String sku, int quantity) {
+        return HttpRequest.newBuilder(uri("/api/products/reserve/" + storeId + "/" + sku + "/" + quantity))
+                .POST(HttpRequest.BodyPublishers.noBody());
+    }
+
+    private void awaitHealthy(Path log) throws InterruptedException {
+        HttpRequest health = HttpRequest.newBuilder(uri("/actuator/health")).timeout(REQUEST_TIMEOUT).GET().build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            assertTrue(application.isAlive(), "L'application s'est arrêtée au démarrage, voir " + log);
+            try {
+                if (client.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // Pas encore à l'écoute
+            }
+            Thread.sleep(250);
+        }
+        fail("L'application n'a pas démarré en " + STARTUP_TIMEOUT.toSeconds() + " s, voir " + log);
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private static Map<String, LatencyRecorder> newRecorders() {
+        Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+        recorders.put(AVAILABILITY, new LatencyRecorder());
+        recorders.put(RESERVATION, new LatencyRecorder());
+        recorders.put(STOCK_UPDATE, new LatencyRecorder());
+        return recorders;
+    }
+
+    private static List<String> split(String args) {
+        return args.isBlank() ? List.of() : Arrays.asList(args.trim().split("\\s+"));
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.inventoryapi.loadtest;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Latences (en nanosecondes) et statuts HTTP d'un type d'opération.
+ * Non thread-safe : chaque worker a ses propres enregistreurs, fusionnés en fin d'exécution.
+ * Les percentiles sont exacts (échantillons triés), sans histogramme approché.
+ */
+final class LatencyRecorder {
+
+    /** Statut enregistré quand aucune réponse n'a été reçue (délai dépassé, connexion refusée) */
+    static final int NO_RESPONSE = -1;
+
+    private long[] samples = new long[1024];
+    private int count;
+    private long errors;
+    private long shed;
+    private boolean sorted = true;
+    private final Map<Integer, Long> statuses = new TreeMap<>();
+
+    void record(long nanos, int status) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+        sorted = false;
+        statuses.merge(status, 1L, Long::sum);
+        if (isError(status)) {
+            errors++;
+        } else if (isShed(status)) {
+            shed++;
+        }
+    }
+
+    void merge(LatencyRecorder other) {
+        if (count + other.count > samples.length) {
+            samples = Arrays.copyOf(samples, Math.max(samples.length * 2, count + other.count));
+        }
+        System.arraycopy(other.samples, 0, samples, count, other.count);
+        count += other.count;
+        errors += other.errors;
+        shed += other.shed;
+        sorted = false;
+        other.statuses.forEach((status, n) -> statuses.merge(status, n, Long::sum));
+    }
+
+    /**
+     * Latence au rang ceil(p * n), en nanosecondes ; 0 sans échantillon
+     */
+    long percentile(double p) {
+        if (count == 0) {
+            return 0;
+        }
+        if (!sorted) {
+            Arrays.sort(samples, 0, count);
+            sorted = true;
+        }
+        int rank = (int) Math.ceil(p * count) - 1;
+        return samples[Math.max(0, Math.min(rank, count - 1))];
+    }
+
+    int count() {
+        return count;
+    }
+
+    long errors() {
+        return errors;
+    }
+
+    double errorRate() {
+        return count == 0 ? 0.0 : (double) errors / count;
+    }
+
+    long shed() {
+        return shed;
+    }
+
+    double shedRate() {
+        return count == 0 ? 0.0 : (double) shed / count;
+    }
+
+    Map<Integer, Long> statuses() {
+        return Collections.unmodifiableMap(statuses);
+    }
+
+    /**
+     * Erreur : pas de réponse, ou statut 4xx/5xx hors 429
+     */
+    static boolean isError(int status) {
+        return (status < 200 || status >= 400) && !isShed(status);
+    }
+
+    /**
+     * Requête refusée par la limitation de débit ou le délestage : comptée à part,
+     * le service s'est protégé sans échouer
+     */
+    static boolean isShed(int status) {
+        return status == 429;
+    }
+}
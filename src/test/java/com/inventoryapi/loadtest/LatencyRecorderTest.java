@@ -0,0 +1,51 @@
+package com.inventoryapi.loadtest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class LatencyRecorderTest {
+
+    @Test
+    @DisplayName("Test percentiles - Rangs exacts après fusion des workers")
+    void testPercentilesAfterMerge() {
+        // Arrange
+        LatencyRecorder first = new LatencyRecorder();
+        LatencyRecorder second = new LatencyRecorder();
+        for (int i = 1000; i >= 1; i--) {
+            (i % 2 == 0 ? first : second).record(i, 200);
+        }
+
+        // Act
+        first.merge(second);
+
+        // Assert
+        assertEquals(1000, first.count());
+        assertEquals(500, first.percentile(0.50));
+        assertEquals(990, first.percentile(0.99));
+        assertEquals(999, first.percentile(0.999));
+        assertEquals(1000, first.percentile(1.0));
+    }
+
+    @Test
+    @DisplayName("Test erreurs - Statuts 4xx/5xx et absence de réponse comptés comme erreurs, 429 comptés à part")
+    void testErrorRate() {
+        // Arrange
+        LatencyRecorder recorder = new LatencyRecorder();
+
+        // Act
+        recorder.record(1, 200);
+        recorder.record(1, 201);
+        recorder.record(1, 429);
+        recorder.record(1, 503);
+        recorder.record(1, LatencyRecorder.NO_RESPONSE);
+
+        // Assert
+        assertEquals(2, recorder.errors());
+        assertEquals(0.4, recorder.errorRate());
+        assertEquals(1, recorder.shed());
+        assertEquals(0.2, recorder.shedRate());
+        assertEquals(1L, recorder.statuses().get(429));
+    }
+}
@@ -0,0 +1,147 @@
+package com.inventoryapi.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Rapport JSON d'une exécution : débit, latences p50/p99/p999, taux d'erreur et de délestage par opération.
+ * Les réponses 429 (délestage) ne comptent ni dans le débit ni dans le taux d'erreur.
+ * Comparé à un rapport de référence, il liste les régressions qui bloquent une version.
+ */
+final class LoadTestReport {
+
+    /** Écart de latence absolu en dessous duquel une hausse relative est considérée comme du bruit */
+    private static final double LATENCY_NOISE_FLOOR_MS = 1.0;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final ObjectNode root;
+
+    LoadTestReport(LoadTestSettings settings, double measuredSeconds, Map<String, LatencyRecorder> operations) {
+        root = MAPPER.createObjectNode();
+        root.put("generatedAt", Instant.now().toString());
+        root.set("settings", MAPPER.valueToTree(settings.describe()));
+
+        ObjectNode environment = root.putObject("environment");
+        environment.put("javaVersion", System.getProperty("java.version"));
+        environment.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        environment.put("target", settings.baseUrl != null ? settings.baseUrl : String.valueOf(settings.jar));
+
+        LatencyRecorder total = new LatencyRecorder();
+        operations.values().forEach(total::merge);
+        root.put("measuredSeconds", measuredSeconds);
+        root.set("total", summarize(total, total.count(), measuredSeconds));
+
+        ObjectNode byOperation = root.putObject("operations");
+        operations.forEach((name, recorder) ->
+                byOperation.set(name, summarize(recorder, total.count(), measuredSeconds)));
+    }
+
+    private static ObjectNode summarize(LatencyRecorder recorder, int totalRequests, double seconds) {
+        ObjectNode node = MAPPER.createObjectNode();
+        node.put("requests", recorder.count());
+        node.put("share", round(totalRequests == 0 ? 0.0 : (double) recorder.count() / totalRequests));
+        node.put("throughputPerSecond", round((recorder.count() - recorder.shed()) / seconds));
+        node.put("errors", recorder.errors());
+        node.put("errorRate", round(recorder.errorRate()));
+        node.put("shed", recorder.shed());
+        node.put("shedRate", round(recorder.shedRate()));
+        node.put("p50Ms", millis(recorder.percentile(0.50)));
+        node.put("p99Ms", millis(recorder.percentile(0.99)));
+        node.put("p999Ms", millis(recorder.percentile(0.999)));
+        node.put("maxMs", millis(recorder.percentile(1.0)));
+        ObjectNode statuses = node.putObject("statuses");
+        recorder.statuses().forEach((status, n) -> statuses.put(String.valueOf(status), n));
+        return node;
+    }
+
+    JsonNode toJson() {
+        return root;
+    }
+
+    void writeTo(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        MAPPER.writeValue(path.toFile(), root);
+    }
+
+    static JsonNode read(Path path) throws IOException {
+        return MAPPER.readTree(path.toFile());
+    }
+
+    /**
+     * Règles de blocage : taux d'erreur au-delà du budget, puis, si une référence est fournie,
+     * baisse de débit global ou hausse des latences p50/p99 par opération au-delà de la tolérance
+     */
+    List<String> violations(JsonNode baseline, double tolerance, double maxErrorRate) {
+        List<String> violations = new ArrayList<>();
+        checkErrorRate("total", root.get("total"), maxErrorRate, violations);
+        Iterator<Map.Entry<String, JsonNode>> operations = root.get("operations").fields();
+        while (operations.hasNext()) {
+            Map.Entry<String, JsonNode> operation = operations.next();
+            checkErrorRate(operation.getKey(), operation.getValue(), maxErrorRate, violations);
+        }
+
+        if (baseline == null) {
+            return violations;
+        }
+        // Comparaison des formes sérialisées : les types numériques relus (int/long) peuvent différer
+        if (!root.get("settings").toString().equals(String.valueOf(baseline.get("settings")))) {
+            violations.add("Paramètres de charge différents de la référence : " + baseline.get("settings"));
+            return violations;
+        }
+
+        double throughput = root.get("total").get("throughputPerSecond").asDouble();
+        double baselineThroughput = baseline.get("total").get("throughputPerSecond").asDouble();
+        if (throughput < baselineThroughput * (1 - tolerance)) {
+            violations.add(String.format("total : débit %.1f req/s < référence %.1f req/s",
+                    throughput, baselineThroughput));
+        }
+
+        operations = root.get("operations").fields();
+        while (operations.hasNext()) {
+            Map.Entry<String, JsonNode> operation = operations.next();
+            JsonNode reference = baseline.path("operations").get(operation.getKey());
+            if (reference == null) {
+                continue;
+            }
+            for (String percentile : new String[] {"p50Ms", "p99Ms"}) {
+                double current = operation.getValue().get(percentile).asDouble();
+                double previous = reference.get(percentile).asDouble();
+                if (current > previous * (1 + tolerance) && current - previous > LATENCY_NOISE_FLOOR_MS) {
+                    violations.add(String.format("%s : %s %.3f ms > référence %.3f ms",
+                            operation.getKey(), percentile, current, previous));
+                }
+            }
+        }
+        return violations;
+    }
+
+    private static void checkErrorRate(String name, JsonNode summary, double maxErrorRate, List<String> violations) {
+        double errorRate = summary.get("errorRate").asDouble();
+        if (errorRate > maxErrorRate) {
+            violations.add(String.format("%s : taux d'erreur %.4f > %.4f (statuts %s)",
+                    name, errorRate, maxErrorRate, summary.get("statuses")));
+        }
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10_000.0) / 10_000.0;
+    }
+}
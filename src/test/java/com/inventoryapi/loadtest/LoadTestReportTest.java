@@ -0,0 +1,74 @@
+package com.inventoryapi.loadtest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+public class LoadTestReportTest {
+
+    private final LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+    @Test
+    @DisplayName("Test blocage - Hausse de p99 au-delà de la tolérance signalée")
+    void testLatencyRegressionDetected() {
+        // Arrange
+        LoadTestReport baseline = report(10_000_000L, 200);
+        LoadTestReport current = report(20_000_000L, 200);
+
+        // Act
+        List<String> violations = current.violations(baseline.toJson(), 0.20, 0.001);
+
+        // Assert
+        assertTrue(violations.stream().anyMatch(v -> v.startsWith("availability : p99Ms")));
+        assertTrue(current.violations(current.toJson(), 0.20, 0.001).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test blocage - Budget d'erreurs et paramètres différents de la référence")
+    void testErrorBudgetAndSettingsMismatch() {
+        // Arrange
+        LoadTestReport current = report(10_000_000L, 500);
+        LoadTestReport baseline = report(10_000_000L, 200);
+        ((ObjectNode) baseline.toJson().get("settings")).put("seed", -1);
+
+        // Act
+        List<String> violations = current.violations(baseline.toJson(), 0.20, 0.001);
+
+        // Assert
+        assertTrue(violations.stream().anyMatch(v -> v.startsWith("total : taux d'erreur")));
+        assertTrue(violations.stream().anyMatch(v -> v.startsWith("Paramètres de charge différents")));
+    }
+
+    @Test
+    @DisplayName("Test blocage - Réponses délestées comptées à part, hors budget d'erreurs et hors débit")
+    void testShedResponsesReportedSeparately() {
+        // Arrange
+        LoadTestReport current = report(10_000_000L, 429);
+
+        // Act
+        List<String> violations = current.violations(null, 0.20, 0.001);
+
+        // Assert
+        assertTrue(violations.isEmpty());
+        assertEquals(100, current.toJson().get("total").get("shed").asLong());
+        assertEquals(1.0, current.toJson().get("total").get("shedRate").asDouble());
+        assertEquals(0.0, current.toJson().get("total").get("throughputPerSecond").asDouble());
+    }
+
+    private LoadTestReport report(long latencyNanos, int status) {
+        LatencyRecorder recorder = new LatencyRecorder();
+        for (int i = 0; i < 100; i++) {
+            recorder.record(latencyNanos, status);
+        }
+        Map<String, LatencyRecorder> operations = new LinkedHashMap<>();
+        operations.put(InventoryLoadIT.AVAILABILITY, recorder);
+        return new LoadTestReport(settings, 10.0, operations);
+    }
+}
@@ -0,0 +1,111 @@
+package com.inventoryapi.loadtest;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Paramètres du test de charge, lus depuis les propriétés système (-Dloadtest.*).
+ * Une même graine et les mêmes tailles donnent le même catalogue et, pour chaque worker,
+ * la même séquence d'opérations.
+ */
+final class LoadTestSettings {
+
+    final long seed;
+    final int products;
+    final int stores;
+    final int reservations;
+    final int hotSkus;
+    final int workers;
+    final int warmupSeconds;
+    final int durationSeconds;
+
+    // Part des requêtes de chaque type dans la charge mixte
+    final double availabilityShare;
+    final double reservationShare;
+    final double stockFeedShare;
+    final int burstSize;
+    final int feedSize;
+
+    // Cible : URL d'une instance déjà démarrée, sinon l'archive empaquetée est lancée
+    final String baseUrl;
+    final Path jar;
+    final String jvmArgs;
+    final String appArgs;
+    // Délestage désactivé par défaut : la mesure porte sur la capacité, pas sur la protection
+    final boolean shedding;
+
+    final Path report;
+    final Path baseline;
+    final double tolerance;
+    final double maxErrorRate;
+
+    private LoadTestSettings() {
+        seed = Long.getLong("loadtest.seed", 42L);
+        products = Integer.getInteger("loadtest.products", 500);
+        stores = Integer.getInteger("loadtest.stores", 20);
+        reservations = Integer.getInteger("loadtest.reservations", 2_000);
+        hotSkus = Integer.getInteger("loadtest.hotSkus", Math.max(1, products / 100));
+        workers = Integer.getInteger("loadtest.workers", 32);
+        warmupSeconds = Integer.getInteger("loadtest.warmupSeconds", 10);
+        durationSeconds = Integer.getInteger("loadtest.durationSeconds", 60);
+
+        availabilityShare = doubleProperty("loadtest.mix.availability", 0.90);
+        reservationShare = doubleProperty("loadtest.mix.reservation", 0.07);
+        stockFeedShare = doubleProperty("loadtest.mix.stockFeed", 0.03);
+        burstSize = Integer.getInteger("loadtest.burstSize", 20);
+        feedSize = Integer.getInteger("loadtest.feedSize", 50);
+
+        baseUrl = System.getProperty("loadtest.baseUrl");
+        jar = pathProperty("loadtest.jar", null);
+        jvmArgs = System.getProperty("loadtest.jvmArgs", "");
+        appArgs = System.getProperty("loadtest.appArgs", "");
+        shedding = Boolean.getBoolean("loadtest.shedding");
+
+        report = pathProperty("loadtest.report", "target/loadtest/report.json");
+        baseline = pathProperty("loadtest.baseline", null);
+        tolerance = doubleProperty("loadtest.tolerance", 0.20);
+        maxErrorRate = doubleProperty("loadtest.maxErrorRate", 0.001);
+    }
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings();
+    }
+
+    /**
+     * Paramètres qui déterminent la charge, recopiés dans le rapport : deux rapports
+     * ne sont comparables que si ces valeurs sont identiques
+     */
+    Map<String, Object> describe() {
+        Map<String, Object> mix = new LinkedHashMap<>();
+        mix.put("availability", availabilityShare);
+        mix.put("reservation", reservationShare);
+        mix.put("stockFeed", stockFeedShare);
+
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("seed", seed);
+        description.put("products", products);
+        description.put("stores", stores);
+        description.put("reservations", reservations);
+        description.put("hotSkus", hotSkus);
+        description.put("workers", workers);
+        description.put("warmupSeconds", warmupSeconds);
+        description.put("durationSeconds", durationSeconds);
+        description.put("mix", mix);
+        description.put("burstSize", burstSize);
+        description.put("feedSize", feedSize);
+        description.put("appArgs", appArgs);
+        description.put("shedding", shedding);
+        return description;
+    }
+
+    private static double doubleProperty(String name, double defaultValue) {
+        String value = System.getProperty(name);
+        return value == null || value.isBlank() ? defaultValue : Double.parseDouble(value);
+    }
+
+    private static Path pathProperty(String name, String defaultValue) {
+        String value = System.getProperty(name, defaultValue);
+        return value == null || value.isBlank() ? null : Path.of(value);
+    }
+}
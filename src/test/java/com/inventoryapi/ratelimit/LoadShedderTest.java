@@ -0,0 +1,55 @@
+package com.inventoryapi.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class LoadShedderTest {
+
+    @Test
+    @DisplayName("Test délestage - Les lectures sont rejetées avant les réservations")
+    void testReadsAreShedBeforeReservations() {
+        // Arrange
+        AtomicLong clock = new AtomicLong();
+        MeterRegistry registry = new SimpleMeterRegistry();
+        Timer acquire = registry.timer(LoadShedder.ACQUIRE_TIMER);
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getShedding().setPoolWaitThresholdMs(50);
+        LoadShedder loadShedder = new LoadShedder(registry, properties, clock::get);
+
+        // Act
+        acquire.record(Duration.ofMillis(120));
+
+        // Assert
+        assertTrue(loadShedder.shouldShed(TrafficPriority.READ));
+        assertTrue(loadShedder.shouldShed(TrafficPriority.WRITE));
+        assertFalse(loadShedder.shouldShed(TrafficPriority.RESERVATION));
+    }
+
+    @Test
+    @DisplayName("Test délestage - Retour à la normale quand le pool se libère")
+    void testRecoversWhenPoolIsIdle() {
+        // Arrange
+        AtomicLong clock = new AtomicLong();
+        MeterRegistry registry = new SimpleMeterRegistry();
+        Timer acquire = registry.timer(LoadShedder.ACQUIRE_TIMER);
+        LoadShedder loadShedder = new LoadShedder(registry, new RateLimitProperties(), clock::get);
+        acquire.record(Duration.ofMillis(500));
+        assertTrue(loadShedder.shouldShed(TrafficPriority.READ));
+
+        // Act
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        acquire.record(Duration.ofMillis(1));
+
+        // Assert
+        assertFalse(loadShedder.shouldShed(TrafficPriority.READ));
+    }
+}
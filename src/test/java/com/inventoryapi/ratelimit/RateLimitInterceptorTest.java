@@ -0,0 +1,130 @@
+package com.inventoryapi.ratelimit;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.inventoryapi.controllers.ProductController;
+import com.inventoryapi.models.Product;
+import com.inventoryapi.services.ProductService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class RateLimitInterceptorTest {
+
+    private MockMvc mockMvc;
+
+    private MeterRegistry meterRegistry;
+
+    @Mock
+    private ProductService productService;
+
+    @InjectMocks
+    private ProductController productController;
+
+    @BeforeEach
+    void setUp() {
+        // Horloge figée : aucun jeton n'est rechargé pendant le test
+        AtomicLong clock = new AtomicLong();
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRead(new RateLimitProperties.Limit(2, 1));
+        properties.setReservation(new RateLimitProperties.Limit(1, 0.1));
+        properties.getShedding().setPoolWaitThresholdMs(50);
+        properties.setTrustedProxies(List.of("10.0.0.1"));
+        meterRegistry = new SimpleMeterRegistry();
+
+        RateLimitInterceptor interceptor = new RateLimitInterceptor(new RateLimiter(properties, clock::get),
+                new LoadShedder(meterRegistry, properties, clock::get), properties, meterRegistry);
+        mockMvc = MockMvcBuilders.standaloneSetup(productController).addInterceptors(interceptor).build();
+    }
+
+    @Test
+    @DisplayName("Test limitation - Seau par endpoint : un autre motif d'URL garde ses jetons")
+    void testBucketPerEndpointPattern() throws Exception {
+        // Arrange
+        when(productService.getProductById(anyLong())).thenReturn(Optional.of(new Product()));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/products/1")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/products/2")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/products/3"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "1"));
+        mockMvc.perform(get("/api/products/availability/STORE-001/TSH-001/1")).andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Test limitation - @TrafficClass(RESERVATION) applique la limite des réservations")
+    void testTrafficClassSelectsReservationLimit() throws Exception {
+        // Arrange
+        when(productService.reserveProduct("STORE-001", "TSH-001", 1)).thenReturn("code");
+
+        // Act & Assert
+        mockMvc.perform(post("/api/products/reserve/STORE-001/TSH-001/1")).andExpect(status().isCreated());
+        mockMvc.perform(post("/api/products/reserve/STORE-001/TSH-001/1"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "10"));
+        verify(productService, times(1)).reserveProduct("STORE-001", "TSH-001", 1);
+    }
+
+    @Test
+    @DisplayName("Test délestage - Lectures rejetées, réservations acceptées sous pression du pool")
+    void testSheddingRejectsReadsFirst() throws Exception {
+        // Arrange
+        meterRegistry.timer(LoadShedder.ACQUIRE_TIMER).record(Duration.ofMillis(120));
+        when(productService.reserveProduct("STORE-001", "TSH-001", 1)).thenReturn("code");
+
+        // Act & Assert
+        mockMvc.perform(get("/api/products/availability/STORE-001/TSH-001/1"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "1"));
+        mockMvc.perform(post("/api/products/reserve/STORE-001/TSH-001/1")).andExpect(status().isCreated());
+        verify(productService, never()).checkStockAvailability(anyString(), anyString(), eq(1));
+    }
+
+    @Test
+    @DisplayName("Test client - L'en-tête client n'est cru que depuis un proxy de confiance")
+    void testClientHeaderOnlyFromTrustedProxy() throws Exception {
+        // Act & Assert : changer d'identifiant ne donne pas de seau neuf
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/products/availability/STORE-001/TSH-001/1")
+                    .header("X-Client-Id", "client-" + i).with(remoteAddr("10.0.0.9"))).andExpect(status().isOk());
+        }
+        mockMvc.perform(get("/api/products/availability/STORE-001/TSH-001/1")
+                .header("X-Client-Id", "client-2").with(remoteAddr("10.0.0.9")))
+                .andExpect(status().isTooManyRequests());
+
+        // Derrière le proxy de confiance, un seau par client
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/api/products/availability/STORE-001/TSH-001/1")
+                    .header("X-Client-Id", "client-" + i).with(remoteAddr("10.0.0.1"))).andExpect(status().isOk());
+        }
+    }
+
+    private static RequestPostProcessor remoteAddr(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+}
@@ -0,0 +1,101 @@
+package com.inventoryapi.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class RateLimiterTest {
+
+    private static final String ENDPOINT = "GET /api/products/availability/{storeId}/{sku}/{quantity}";
+
+    private AtomicLong clock;
+
+    private RateLimitProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(1_000_000_000L);
+        properties = new RateLimitProperties();
+        properties.setRead(new RateLimitProperties.Limit(3, 1));
+        properties.setReservation(new RateLimitProperties.Limit(2, 1));
+    }
+
+    @Test
+    @DisplayName("Test seau à jetons - Rafale autorisée puis recharge progressive")
+    void testBurstThenRefill() {
+        // Arrange
+        RateLimiter rateLimiter = new RateLimiter(properties, clock::get);
+
+        // Act & Assert
+        for (int i = 0; i < 3; i++) {
+            assertTrue(rateLimiter.tryAcquire("client-a", ENDPOINT, TrafficPriority.READ));
+        }
+        assertFalse(rateLimiter.tryAcquire("client-a", ENDPOINT, TrafficPriority.READ));
+        assertEquals(1, rateLimiter.retryAfterSeconds("client-a", ENDPOINT, TrafficPriority.READ));
+
+        clock.addAndGet(1_000_000_000L);
+        assertTrue(rateLimiter.tryAcquire("client-a", ENDPOINT, TrafficPriority.READ));
+        assertFalse(rateLimiter.tryAcquire("client-a", ENDPOINT, TrafficPriority.READ));
+    }
+
+    @Test
+    @DisplayName("Test isolation - Un client abusif n'épuise ni les autres clients ni les réservations")
+    void testBucketsAreIsolated() {
+        // Arrange
+        RateLimiter rateLimiter = new RateLimiter(properties, clock::get);
+        String reserve = "POST /api/products/reserve/{storeId}/{sku}/{quantity}";
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            rateLimiter.tryAcquire("client-a", ENDPOINT, TrafficPriority.READ);
+        }
+
+        // Assert
+        assertTrue(rateLimiter.tryAcquire("client-b", ENDPOINT, TrafficPriority.READ));
+        assertTrue(rateLimiter.tryAcquire("client-a", reserve, TrafficPriority.RESERVATION));
+    }
+
+    @Test
+    @DisplayName("Test mémoire bornée - Les seaux inactifs sont purgés par la tâche planifiée")
+    void testIdleBucketsAreEvicted() {
+        // Arrange
+        properties.setMaxBuckets(2);
+        RateLimiter rateLimiter = new RateLimiter(properties, clock::get);
+        rateLimiter.tryAcquire("client-a", ENDPOINT, TrafficPriority.READ);
+        rateLimiter.tryAcquire("client-b", ENDPOINT, TrafficPriority.READ);
+        clock.addAndGet(5_000_000_000L);
+
+        // Act
+        rateLimiter.tryAcquire("client-c", ENDPOINT, TrafficPriority.READ);
+        int beforeEviction = rateLimiter.getBucketCount();
+        rateLimiter.evictIdle();
+        boolean acquired = rateLimiter.tryAcquire("client-c", ENDPOINT, TrafficPriority.READ);
+
+        // Assert
+        assertEquals(2, beforeEviction);
+        assertTrue(acquired);
+        assertEquals(1, rateLimiter.getBucketCount());
+    }
+
+    @Test
+    @DisplayName("Test mémoire bornée - Les nouveaux clients partagent un seau quand la table est pleine")
+    void testOverflowBucketWhenFull() {
+        // Arrange
+        properties.setMaxBuckets(1);
+        RateLimiter rateLimiter = new RateLimiter(properties, clock::get);
+        rateLimiter.tryAcquire("client-a", ENDPOINT, TrafficPriority.READ);
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            assertTrue(rateLimiter.tryAcquire("client-" + i + "-new", ENDPOINT, TrafficPriority.READ));
+        }
+
+        // Assert
+        assertFalse(rateLimiter.tryAcquire("client-z", ENDPOINT, TrafficPriority.READ));
+        assertEquals(1, rateLimiter.getBucketCount());
+    }
+}
@@ -0,0 +1,123 @@
+package com.inventoryapi.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.inventoryapi.models.Product;
+import com.inventoryapi.models.Stock;
+import com.inventoryapi.models.Store;
+import com.inventoryapi.repositories.ProductRepository;
+import com.inventoryapi.repositories.ReservationRepository;
+import com.inventoryapi.repositories.StockRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class ProductServiceImplTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private StockRepository stockRepository;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private StoreRegistry storeRegistry;
+
+    @Mock
+    private StockIndex stockIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private ProductServiceImpl productService;
+
+    private Product product;
+
+    private Store store;
+
+    @BeforeEach
+    void setUp() {
+        product = new Product("T-shirt", "T-shirt en coton", 19.99, "TSH-001");
+        product.setId(1L);
+        store = new Store("STORE-001");
+        store.setId(1);
+        when(storeRegistry.findByCode("STORE-001")).thenReturn(Optional.of(store));
+        lenient().when(productRepository.findBySku("TSH-001")).thenReturn(Optional.of(product));
+    }
+
+    @Test
+    @DisplayName("Test disponibilité - Lecture sans écriture dans l'index")
+    void testAvailabilityDoesNotWriteIndex() {
+        // Arrange
+        when(stockRepository.findByProduct_SkuAndStore("TSH-001", store)).thenReturn(Optional.of(stock(7L, product, 10)));
+        when(reservationRepository.findByProductAndStoreAndActiveTrue(product, store)).thenReturn(List.of());
+
+        // Act
+        boolean available = productService.checkStockAvailability("STORE-001", "TSH-001", 5);
+
+        // Assert
+        assertTrue(available);
+        verifyNoInteractions(stockIndex);
+    }
+
+    @Test
+    @DisplayName("Test index obsolète - Repli sur la recherche par produit et magasin, index corrigé")
+    void testStaleIndexFallsBackToQuery() {
+        // Arrange
+        Product other = new Product("Jeans", "Jeans slim", 49.99, "JNS-001");
+        other.setId(2L);
+        Stock staleStock = stock(99L, other, 10);
+        Stock stock = stock(7L, product, 10);
+        when(stockIndex.find(1L, 1)).thenReturn(99L);
+        when(stockRepository.findById(99L)).thenReturn(Optional.of(staleStock));
+        when(stockRepository.findByProductAndStore(product, store)).thenReturn(Optional.of(stock));
+        when(reservationRepository.findByProductAndStoreAndActiveTrue(product, store)).thenReturn(List.of());
+
+        // Act
+        String reservation = productService.reserveProduct("STORE-001", "TSH-001", 2);
+
+        // Assert
+        assertNotNull(reservation);
+        verify(stockIndex).remove(1L, 1);
+        verify(stockIndex).put(1L, 1, 7L);
+        verify(reservationRepository).save(any());
+    }
+
+    @Test
+    @DisplayName("Test index - Entrée valide utilisée sans requête par produit et magasin")
+    void testIndexHitSkipsQuery() {
+        // Arrange
+        when(stockIndex.find(1L, 1)).thenReturn(7L);
+        when(stockRepository.findById(7L)).thenReturn(Optional.of(stock(7L, product, 10)));
+        when(reservationRepository.findByProductAndStoreAndActiveTrue(product, store)).thenReturn(List.of());
+
+        // Act
+        String reservation = productService.reserveProduct("STORE-001", "TSH-001", 2);
+
+        // Assert
+        assertNotNull(reservation);
+        verify(stockRepository, never()).findByProductAndStore(any(), any());
+    }
+
+    private Stock stock(Long id, Product owner, int quantity) {
+        Stock stock = new Stock(owner, store, quantity);
+        stock.setId(id);
+        return stock;
+    }
+}
@@ -0,0 +1,89 @@
+package com.inventoryapi.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class StockIndexTest {
+
+    @Test
+    @DisplayName("Test clé - Produit sur les 32 bits de poids fort, magasin sur les 32 bits de poids faible")
+    void testKeyPacking() {
+        // Act
+        long key = StockIndex.key(3L, 7);
+
+        // Assert
+        assertEquals(3L, key >>> 32);
+        assertEquals(7L, key & 0xFFFFFFFFL);
+        assertNotEquals(StockIndex.key(1L, 2), StockIndex.key(2L, 1));
+        assertEquals(Integer.MAX_VALUE, StockIndex.key(Integer.MAX_VALUE, Integer.MAX_VALUE) >>> 32);
+    }
+
+    @Test
+    @DisplayName("Test index - Ajout, remplacement et suppression par couple (produit, magasin)")
+    void testPutFindRemove() {
+        // Arrange
+        StockIndex index = new StockIndex(1000);
+
+        // Act
+        index.put(1L, 2, 10L);
+        index.put(2L, 1, 20L);
+        index.put(1L, 2, 11L);
+        index.remove(2L, 1);
+
+        // Assert
+        assertEquals(11L, index.find(1L, 2));
+        assertEquals(StockIndex.NO_STOCK, index.find(2L, 1));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    @DisplayName("Test index - Réinsertion d'une entrée inchangée sans effet")
+    void testPutSameMappingIsNoOp() {
+        // Arrange
+        StockIndex index = new StockIndex(1000);
+        index.put(1L, 2, 10L);
+
+        // Act
+        index.put(1L, 2, 10L);
+
+        // Assert
+        assertEquals(10L, index.find(1L, 2));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    @DisplayName("Test index - Identifiants hors plage ignorés")
+    void testOutOfRangeIdsAreNotIndexed() {
+        // Arrange
+        StockIndex index = new StockIndex(1000);
+
+        // Act
+        index.put(Integer.MAX_VALUE + 1L, 1, 10L);
+        index.put(0L, 1, 10L);
+        index.put(1L, 0, 10L);
+
+        // Assert
+        assertEquals(0, index.size());
+        assertEquals(StockIndex.NO_STOCK, index.find(Integer.MAX_VALUE + 1L, 1));
+    }
+
+    @Test
+    @DisplayName("Test index - Taille bornée, la dernière entrée écrite reste indexée")
+    void testBoundedSize() {
+        // Arrange
+        int maxEntries = StockIndex.SEGMENTS * 4;
+        StockIndex index = new StockIndex(maxEntries);
+
+        // Act
+        for (long product = 1; product <= 10_000; product++) {
+            index.put(product, 1, product * 10);
+        }
+
+        // Assert
+        assertTrue(index.size() <= maxEntries);
+        assertTrue(index.size() > 0);
+        assertEquals(100_000L, index.find(10_000L, 1));
+    }
+}
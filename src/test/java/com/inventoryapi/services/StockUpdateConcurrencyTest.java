@@ -0,0 +1,71 @@
+package com.inventoryapi.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.inventoryapi.models.Product;
+import com.inventoryapi.repositories.StockRepository;
+import com.inventoryapi.repositories.StoreRepository;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.url=jdbc:h2:mem:stock_concurrency;DB_CLOSE_DELAY=-1",
+        "spring.datasource.hikari.maximum-pool-size=2",
+        "spring.datasource.hikari.connection-timeout=5000",
+        "spring.sql.init.mode=never",
+        "spring.jpa.show-sql=false"
+})
+public class StockUpdateConcurrencyTest {
+
+    private static final int WRITERS = 16;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private StockRepository stockRepository;
+
+    @Test
+    @DisplayName("Test concurrence - Premières écritures simultanées sur de nouveaux magasins sans épuiser le pool")
+    void testConcurrentFirstWritesToNewStores() throws Exception {
+        // Arrange
+        productService.saveProduct(new Product("Pull", "Pull en laine", 39.99, "PUL-001"));
+        ExecutorService pool = Executors.newFixedThreadPool(WRITERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < WRITERS; i++) {
+            String storeId = String.format("NEW-%03d", i);
+            results.add(pool.submit(() -> {
+                start.await();
+                return productService.updateStock(storeId, "PUL-001", 10);
+            }));
+        }
+        start.countDown();
+        for (Future<Boolean> result : results) {
+            assertTrue(result.get(30, TimeUnit.SECONDS));
+        }
+        pool.shutdown();
+
+        // Assert
+        assertEquals(WRITERS, storeRepository.count());
+        assertEquals(WRITERS, stockRepository.count());
+        assertFalse(productService.updateStock("NEW-UNKNOWN-SKU", "ABSENT-001", 10));
+        assertFalse(storeRepository.findByCode("NEW-UNKNOWN-SKU").isPresent());
+    }
+}
@@ -0,0 +1,110 @@
+package com.inventoryapi.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.inventoryapi.models.Store;
+import com.inventoryapi.repositories.StoreRepository;
+import com.inventoryapi.sharding.ReferenceDataReplicator;
+
+@ExtendWith(MockitoExtension.class)
+public class StoreRegistryTest {
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private StoreRegistry storeRegistry;
+
+    @BeforeEach
+    void setUp() {
+        storeRegistry = new StoreRegistry(storeRepository, transactionManager,
+                new StaticListableBeanFactory().getBeanProvider(ReferenceDataReplicator.class));
+    }
+
+    @Test
+    @DisplayName("Test findByCode - Un seul accès à la base par magasin")
+    void testFindByCodeIsCached() {
+        // Arrange
+        Store store = store(1, "STORE-001");
+        when(storeRepository.findByCode("STORE-001")).thenReturn(Optional.of(store));
+
+        // Act
+        storeRegistry.findByCode("STORE-001");
+        Optional<Store> cached = storeRegistry.findByCode("STORE-001");
+
+        // Assert
+        assertSame(store, cached.get());
+        verify(storeRepository, times(1)).findByCode("STORE-001");
+    }
+
+    @Test
+    @DisplayName("Test findByCode - Un magasin inconnu n'est pas mis en cache")
+    void testUnknownStoreIsNotCached() {
+        // Arrange
+        when(storeRepository.findByCode("STORE-404")).thenReturn(Optional.empty());
+
+        // Act
+        storeRegistry.findByCode("STORE-404");
+        Optional<Store> result = storeRegistry.findByCode("STORE-404");
+
+        // Assert
+        assertFalse(result.isPresent());
+        verify(storeRepository, times(2)).findByCode("STORE-404");
+    }
+
+    @Test
+    @DisplayName("Test getOrCreate - Magasin inconnu créé puis servi depuis le cache")
+    void testGetOrCreateCreatesOnce() {
+        // Arrange
+        when(storeRepository.findByCode("STORE-NEW")).thenReturn(Optional.empty());
+        when(storeRepository.save(any(Store.class))).thenReturn(store(5, "STORE-NEW"));
+
+        // Act
+        Store created = storeRegistry.getOrCreate("STORE-NEW");
+        Store again = storeRegistry.getOrCreate("STORE-NEW");
+
+        // Assert
+        assertEquals(5, created.getId());
+        assertSame(created, again);
+        verify(storeRepository, times(1)).save(any(Store.class));
+    }
+
+    @Test
+    @DisplayName("Test getOrCreate - Création concurrente : le magasin existant est relu")
+    void testGetOrCreateRereadsOnConflict() {
+        // Arrange
+        Store existing = store(6, "STORE-RACE");
+        when(storeRepository.findByCode("STORE-RACE"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(existing));
+        when(storeRepository.save(any(Store.class))).thenThrow(new DataIntegrityViolationException("uk_store_code"));
+
+        // Act
+        Store store = storeRegistry.getOrCreate("STORE-RACE");
+
+        // Assert
+        assertSame(existing, store);
+    }
+
+    private static Store store(int id, String code) {
+        Store store = new Store(code);
+        store.setId(id);
+        return store;
+    }
+}
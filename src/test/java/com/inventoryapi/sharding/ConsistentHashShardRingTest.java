@@ -0,0 +1,61 @@
+package com.inventoryapi.sharding;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class ConsistentHashShardRingTest {
+
+    private static final int STORES = 800;
+
+    @Test
+    @DisplayName("Test répartition - Les magasins sont répartis sur tous les shards")
+    void testStoresAreSpreadAcrossShards() {
+        // Arrange
+        ConsistentHashShardRing ring = new ConsistentHashShardRing(List.of("shard-a", "shard-b", "shard-c", "shard-d"), 128);
+        int[] counts = new int[4];
+
+        // Act
+        for (int i = 0; i < STORES; i++) {
+            counts[ring.shardFor(String.format("STORE-%03d", i))]++;
+        }
+
+        // Assert
+        for (int count : counts) {
+            assertTrue(count > STORES / 4 * 0.7 && count < STORES / 4 * 1.3, "Répartition déséquilibrée : " + count);
+        }
+    }
+
+    @Test
+    @DisplayName("Test ajout de shard - Seule une fraction des magasins change de shard")
+    void testAddingShardMovesFewStores() {
+        // Arrange
+        ConsistentHashShardRing before = new ConsistentHashShardRing(List.of("shard-a", "shard-b", "shard-c"), 128);
+        ConsistentHashShardRing after = new ConsistentHashShardRing(List.of("shard-a", "shard-b", "shard-c", "shard-d"), 128);
+
+        // Act
+        int moved = 0;
+        for (int i = 0; i < STORES; i++) {
+            String store = String.format("STORE-%03d", i);
+            int target = after.shardFor(store);
+            if (target != before.shardFor(store)) {
+                moved++;
+                assertEquals(3, target, "Un magasin ne doit migrer que vers le nouveau shard");
+            }
+        }
+
+        // Assert
+        assertTrue(moved < STORES * 0.35, "Trop de magasins déplacés : " + moved);
+    }
+
+    @Test
+    @DisplayName("Test shard unique - Tout est routé vers le shard principal")
+    void testSingleShard() {
+        ConsistentHashShardRing ring = new ConsistentHashShardRing(List.of("shard-a"), 128);
+
+        assertEquals(0, ring.shardFor("STORE-001"));
+    }
+}
@@ -0,0 +1,134 @@
+package com.inventoryapi.sharding;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.inventoryapi.InventoryapiApplication;
+import com.inventoryapi.models.Product;
+import com.inventoryapi.services.ProductService;
+
+/**
+ * Débit d'écriture de stock selon le nombre de shards H2 locaux.
+ * Non exécuté par défaut : mvn test -Dtest=ShardWriteScalingBenchmark -Dbenchmark=true
+ *
+ * Le rapport JSON (target/benchmark/shard-write-scaling.json) donne le débit et le gain de chaque
+ * configuration. Le test échoue si le gain est inférieur à {@code benchmark.minEfficiency} (0,7)
+ * fois le gain idéal, borné par le nombre de cœurs : sur une machine à un cœur, aucun gain n'est attendu
+ * et seule l'absence de régression est vérifiée.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class ShardWriteScalingBenchmark {
+
+    private static final int STORES = 256;
+    private static final int WRITERS = Integer.getInteger("benchmark.writers", 16);
+    private static final long DURATION_MS = Long.getLong("benchmark.durationMs", 5_000);
+    private static final double MIN_EFFICIENCY = Double.parseDouble(System.getProperty("benchmark.minEfficiency", "0.7"));
+    private static final Path REPORT = Path.of(System.getProperty("benchmark.report", "target/benchmark/shard-write-scaling.json"));
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    @Test
+    @DisplayName("Benchmark - Débit d'écriture de stock pour 1, 2 et 4 shards")
+    void benchmarkWriteScaling() throws Exception {
+        int processors = Runtime.getRuntime().availableProcessors();
+        ObjectNode report = MAPPER.createObjectNode();
+        report.put("generatedAt", Instant.now().toString());
+        report.put("availableProcessors", processors);
+        report.put("writers", WRITERS);
+        report.put("durationMs", DURATION_MS);
+        report.put("minEfficiency", MIN_EFFICIENCY);
+        ArrayNode runs = report.putArray("runs");
+
+        List<String> violations = new ArrayList<>();
+        double baseline = 0;
+        for (int shards : new int[] {1, 2, 4}) {
+            double throughput = measure(shards);
+            if (baseline == 0) {
+                baseline = throughput;
+            }
+            double speedup = throughput / baseline;
+            double minSpeedup = MIN_EFFICIENCY * Math.min(shards, processors);
+            ObjectNode run = runs.addObject();
+            run.put("shards", shards);
+            run.put("writesPerSecond", Math.round(throughput));
+            run.put("speedup", Math.round(speedup * 100) / 100.0);
+            run.put("minSpeedup", Math.round(minSpeedup * 100) / 100.0);
+            System.out.printf("shards=%d writers=%d : %.0f écritures/s (x%.2f, minimum x%.2f)%n",
+                    shards, WRITERS, throughput, speedup, minSpeedup);
+            if (speedup < minSpeedup) {
+                violations.add(String.format("shards=%d : gain x%.2f < x%.2f", shards, speedup, minSpeedup));
+            }
+        }
+
+        Files.createDirectories(REPORT.toAbsolutePath().getParent());
+        MAPPER.writeValue(REPORT.toFile(), report);
+        assertTrue(violations.isEmpty(), "Gain insuffisant (" + REPORT.toAbsolutePath() + ") :\n"
+                + String.join("\n", violations));
+    }
+
+    private double measure(int shards) throws InterruptedException {
+        // Arguments de ligne de commande : ils priment sur application.properties
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.sql.init.mode=never",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.open-in-view=false",
+                "--inventory.rate-limit.enabled=false",
+                "--inventory.sharding.enabled=true"));
+        for (int i = 0; i < shards; i++) {
+            String prefix = "--inventory.sharding.shards[" + i + "].";
+            args.add(prefix + "name=shard-" + i);
+            args.add(prefix + "url=jdbc:h2:mem:bench_" + shards + "_" + i + ";DB_CLOSE_DELAY=-1");
+            args.add(prefix + "username=sa");
+            args.add(prefix + "maximum-pool-size=" + Math.max(2, WRITERS / shards));
+        }
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(InventoryapiApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(args.toArray(new String[0]))) {
+            ProductService productService = context.getBean(ProductService.class);
+            productService.saveProduct(new Product("Bench", "Produit de benchmark", 1.0, "BENCH-001"));
+            for (int store = 0; store < STORES; store++) {
+                productService.updateStock(storeId(store), "BENCH-001", 1);
+            }
+
+            AtomicLong writes = new AtomicLong();
+            CountDownLatch done = new CountDownLatch(WRITERS);
+            long deadline = System.nanoTime() + DURATION_MS * 1_000_000L;
+            for (int w = 0; w < WRITERS; w++) {
+                new Thread(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (System.nanoTime() < deadline) {
+                        productService.updateStock(storeId(random.nextInt(STORES)), "BENCH-001", random.nextInt(100));
+                        writes.incrementAndGet();
+                    }
+                    done.countDown();
+                }).start();
+            }
+            done.await();
+            return writes.get() * 1000.0 / DURATION_MS;
+        }
+    }
+
+    private static String storeId(int store) {
+        return String.format("STORE-%03d", store);
+    }
+}
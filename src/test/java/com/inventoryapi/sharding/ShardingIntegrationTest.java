@@ -0,0 +1,123 @@
+package com.inventoryapi.sharding;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.inventoryapi.models.Product;
+import com.inventoryapi.services.ProductService;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.sql.init.mode=never",
+        "spring.jpa.show-sql=false",
+        "inventory.sharding.enabled=true",
+        "inventory.sharding.shards[0].name=shard-a",
+        "inventory.sharding.shards[0].url=jdbc:h2:mem:it_shard_a;DB_CLOSE_DELAY=-1",
+        "inventory.sharding.shards[0].username=sa",
+        "inventory.sharding.shards[1].name=shard-b",
+        "inventory.sharding.shards[1].url=jdbc:h2:mem:it_shard_b;DB_CLOSE_DELAY=-1",
+        "inventory.sharding.shards[1].username=sa"
+})
+public class ShardingIntegrationTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ConsistentHashShardRing shardRing;
+
+    @Autowired
+    private ShardingConfig.ShardDataSources shardDataSources;
+
+    @Autowired
+    private ReferenceDataReplicator replicator;
+
+    @Test
+    @DisplayName("Test partitionnement - Stocks sur le shard du magasin, produits répliqués, lecture multi-shards")
+    void testStockIsRoutedByStore() {
+        // Arrange
+        Product product = productService.saveProduct(new Product("Pull", "Pull en laine", 39.99, "PUL-001"));
+        List<String> stores = List.of("STORE-001", "STORE-002", "STORE-003", "STORE-004", "STORE-005", "STORE-006");
+
+        // Act
+        for (String store : stores) {
+            assertTrue(productService.updateStock(store, "PUL-001", 10));
+        }
+        assertNotNull(productService.reserveProduct("STORE-002", "PUL-001", 8));
+        Map<String, Boolean> availability = productService.checkStockAvailability(stores, "PUL-001", 5);
+
+        // Assert
+        for (int shard = 0; shard < 2; shard++) {
+            JdbcTemplate jdbc = new JdbcTemplate(shardDataSources.getAll().get(shard));
+            assertEquals(1, jdbc.queryForObject("SELECT COUNT(*) FROM product WHERE id = ?", Integer.class, product.getId()));
+            int expectedStocks = (int) stores.stream().filter(s -> shardRing.shardFor(s) == 0).count();
+            if (shard == 1) {
+                expectedStocks = stores.size() - expectedStocks;
+            }
+            assertEquals(expectedStocks, jdbc.queryForObject("SELECT COUNT(*) FROM stock WHERE product_id = ?", Integer.class, product.getId()));
+        }
+        assertEquals(stores, List.copyOf(availability.keySet()));
+        assertFalse(availability.get("STORE-002"));
+        assertTrue(availability.get("STORE-005"));
+    }
+
+    @Test
+    @DisplayName("Test partitionnement - Suppression d'un produit avec du stock et une réservation sur un shard secondaire")
+    void testDeleteProductWithStockOnSecondaryShard() {
+        // Arrange
+        Product product = productService.saveProduct(new Product("Bonnet", "Bonnet en laine", 14.99, "BON-001"));
+        String primaryStore = storeOnShard(0);
+        String secondaryStore = storeOnShard(1);
+        assertTrue(productService.updateStock(primaryStore, "BON-001", 10));
+        assertTrue(productService.updateStock(secondaryStore, "BON-001", 10));
+        assertNotNull(productService.reserveProduct(secondaryStore, "BON-001", 2));
+
+        // Act
+        productService.deleteProduct(product.getId());
+
+        // Assert
+        for (int shard = 0; shard < 2; shard++) {
+            JdbcTemplate jdbc = new JdbcTemplate(shardDataSources.getAll().get(shard));
+            assertEquals(0, jdbc.queryForObject("SELECT COUNT(*) FROM product WHERE id = ?", Integer.class, product.getId()));
+            assertEquals(0, jdbc.queryForObject("SELECT COUNT(*) FROM stock WHERE product_id = ?", Integer.class, product.getId()));
+            assertEquals(0, jdbc.queryForObject("SELECT COUNT(*) FROM reservation WHERE product_id = ?", Integer.class, product.getId()));
+        }
+        assertTrue(productService.getProductById(product.getId()).isEmpty());
+        assertFalse(productService.checkStockAvailability(secondaryStore, "BON-001", 1));
+    }
+
+    @Test
+    @DisplayName("Test partitionnement - La réparation réaligne un shard secondaire divergent sur le principal")
+    void testRepairRealignsSecondaryShard() {
+        // Arrange
+        Product kept = productService.saveProduct(new Product("Gants", "Gants en cuir", 29.99, "GAN-001"));
+        JdbcTemplate secondary = new JdbcTemplate(shardDataSources.getAll().get(1));
+        secondary.update("DELETE FROM product WHERE id = ?", kept.getId());
+        secondary.update("INSERT INTO product (id, name, description, price, sku, version) VALUES (?, ?, ?, ?, ?, ?)",
+                999_999L, "Orphelin", "Supprimé du principal", 1.0, "ORPH-001", 0L);
+        replicator.markRepairNeeded();
+
+        // Act
+        replicator.repairIfNeeded();
+
+        // Assert
+        assertEquals(1, secondary.queryForObject("SELECT COUNT(*) FROM product WHERE id = ?", Integer.class, kept.getId()));
+        assertEquals(0, secondary.queryForObject("SELECT COUNT(*) FROM product WHERE id = ?", Integer.class, 999_999L));
+    }
+
+    private String storeOnShard(int shard) {
+        for (int i = 100; ; i++) {
+            String store = "STORE-" + i;
+            if (shardRing.shardFor(store) == shard) {
+                return store;
+            }
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.inventoryapi.startup;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Temps jusqu'à la première requête et mémoire au démarrage : configuration actuelle,
+ * profil fast seul, puis profil fast avec AOT et archive CDS.
+ * Non exécuté par défaut : mvn -Pfastboot verify -Dbenchmark=true (-Dstartup.iterations=5)
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class StartupTimeBenchmark {
+
+    private static final int ITERATIONS = Integer.getInteger("startup.iterations", 3);
+    private static final Path REPORT = Path.of(System.getProperty("startup.report", "target/startup/report.json"));
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+    private static final String FIRST_REQUEST = "/api/products/availability/STORE-001/TSH-001/1";
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+
+    @Test
+    @DisplayName("Benchmark - Temps jusqu'à la première requête et mémoire au démarrage")
+    void benchmarkStartup() throws Exception {
+        Path jar = Path.of(System.getProperty("startup.jar", "target/inventoryapi-0.0.1-SNAPSHOT.jar"));
+        Path fastbootDir = Path.of(System.getProperty("startup.fastbootDir", "target/fastboot"));
+        assertTrue(Files.isRegularFile(jar), "Archive introuvable : " + jar);
+        assertTrue(Files.isRegularFile(fastbootDir.resolve("application.jsa")),
+                "Archive CDS introuvable : lancer mvn -Pfastboot package");
+
+        // Chemin du jar relatif au répertoire extrait, comme lors de l'exécution d'entraînement CDS
+        String extractedJar = jar.getFileName().toString();
+        ObjectNode report = MAPPER.createObjectNode();
+        report.put("iterations", ITERATIONS);
+        report.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        ArrayNode results = report.putArray("configurations");
+        results.add(measure("default", null, List.of("-jar", jar.toString())));
+        results.add(measure("fast", null, List.of("-jar", jar.toString(), "--spring.profiles.active=fast")));
+        results.add(measure("fast-aot-cds", fastbootDir, List.of(
+                "-XX:SharedArchiveFile=application.jsa", "-Dspring.aot.enabled=true",
+                "-jar", extractedJar, "--spring.profiles.active=fast")));
+
+        Files.createDirectories(REPORT.toAbsolutePath().getParent());
+        MAPPER.writeValue(REPORT.toFile(), report);
+        for (JsonNode result : results) {
+            System.out.printf("%-14s premiere requete %6d ms   RSS %5d Mo   tas %4d Mo%n",
+                    result.get("name").asText(), result.get("timeToFirstRequestMs").asLong(),
+                    result.get("rssMb").asLong(), result.get("heapUsedMb").asLong());
+        }
+    }
+
+    /**
+     * Médianes sur ITERATIONS démarrages à froid d'une configuration
+     */
+    private ObjectNode measure(String name, Path workingDirectory, List<String> launch) throws Exception {
+        long[] timeToFirstRequest = new long[ITERATIONS];
+        long[] rss = new long[ITERATIONS];
+        long[] heapUsed = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            int port = freePort();
+            List<String> command = new ArrayList<>();
+            command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+            command.addAll(launch);
+            command.add("--server.port=" + port);
+
+            long start = System.nanoTime();
+            Process application = new ProcessBuilder(command)
+                    .directory(workingDirectory != null ? workingDirectory.toFile() : null)
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            try {
+                awaitFirstRequest(application, port);
+                timeToFirstRequest[i] = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                rss[i] = residentSetMb(application.pid());
+                heapUsed[i] = heapUsedMb(port);
+            } finally {
+                application.destroy();
+                if (!application.waitFor(30, TimeUnit.SECONDS)) {
+                    application.destroyForcibly();
+                }
+            }
+        }
+
+        ObjectNode result = MAPPER.createObjectNode();
+        result.put("name", name);
+        result.put("command", String.join(" ", launch));
+        result.put("timeToFirstRequestMs", median(timeToFirstRequest));
+        result.put("rssMb", median(rss));
+        result.put("heapUsedMb", median(heapUsed));
+        return result;
+    }
+
+    private void awaitFirstRequest(Process application, int port) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + FIRST_REQUEST))
+                .timeout(Duration.ofSeconds(10)).GET().build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            assertTrue(application.isAlive(), "L'application s'est arrêtée au démarrage");
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // Pas encore à l'écoute
+            }
+            Thread.sleep(10);
+        }
+        fail("Pas de réponse après " + STARTUP_TIMEOUT.toSeconds() + " s");
+    }
+
+    /**
+     * Mémoire résidente du processus (Linux : /proc/<pid>/status), -1 si indisponible
+     */
+    private static long residentSetMb(long pid) throws IOException {
+        Path status = Path.of("/proc", String.valueOf(pid), "status");
+        if (!Files.isReadable(status)) {
+            return -1;
+        }
+        for (String line : Files.readAllLines(status)) {
+            if (line.startsWith("VmRSS:")) {
+                return Long.parseLong(line.replaceAll("\\D", "")) / 1024;
+            }
+        }
+        return -1;
+    }
+
+    private long heapUsedMb(int port) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(
+                "http://localhost:" + port + "/actuator/metrics/jvm.memory.used?tag=area:heap")).GET().build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            return -1;
+        }
+        return MAPPER.readTree(response.body()).get("measurements").get(0).get("value").asLong() / (1024 * 1024);
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
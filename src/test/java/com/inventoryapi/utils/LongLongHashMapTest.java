@@ -0,0 +1,67 @@
+package com.inventoryapi.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class LongLongHashMapTest {
+
+    @Test
+    @DisplayName("Test put/get - Valeurs retrouvées et remplacées")
+    void testPutAndGet() {
+        // Arrange
+        LongLongHashMap map = new LongLongHashMap();
+
+        // Act
+        long previous = map.put(42L, 7L, -1L);
+        long replaced = map.put(42L, 8L, -1L);
+
+        // Assert
+        assertEquals(-1L, previous);
+        assertEquals(7L, replaced);
+        assertEquals(8L, map.get(42L, -1L));
+        assertEquals(-1L, map.get(43L, -1L));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    @DisplayName("Test remove - Les collisions restent accessibles après suppression")
+    void testRemoveKeepsProbeChains() {
+        // Arrange
+        LongLongHashMap map = new LongLongHashMap(4);
+        Map<Long, Long> reference = new HashMap<>();
+        Random random = new Random(26);
+
+        // Act
+        for (int i = 0; i < 20_000; i++) {
+            long key = 1 + random.nextInt(2_000);
+            if (random.nextBoolean()) {
+                long value = random.nextLong();
+                map.put(key, value, -1L);
+                reference.put(key, value);
+            } else {
+                map.remove(key, -1L);
+                reference.remove(key);
+            }
+        }
+
+        // Assert
+        assertEquals(reference.size(), map.size());
+        for (long key = 1; key <= 2_000; key++) {
+            assertEquals(reference.getOrDefault(key, -1L), map.get(key, -1L));
+        }
+    }
+
+    @Test
+    @DisplayName("Test clé réservée - La clé 0 est refusée")
+    void testReservedKey() {
+        LongLongHashMap map = new LongLongHashMap();
+
+        assertThrows(IllegalArgumentException.class, () -> map.put(0L, 1L, -1L));
+    }
+}